@@ -0,0 +1,191 @@
+package io.github.hexagonal.weather.adapter.cluster;
+
+import io.github.hexagonal.weather.adapter.cluster.cache.CellCache;
+import io.github.hexagonal.weather.adapter.cluster.config.ClusterConfig;
+import io.github.hexagonal.weather.adapter.cluster.peer.PeerClient;
+import io.github.hexagonal.weather.adapter.cluster.peer.PeerUnavailableException;
+import io.github.hexagonal.weather.adapter.cluster.ring.ClusterMembership;
+import io.github.hexagonal.weather.adapter.cluster.ring.ConsistentHashRing;
+import io.github.hexagonal.weather.application.port.out.WeatherProvider;
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.DeadlineExceededException;
+import io.github.hexagonal.weather.model.GridCell;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Measurement;
+import io.github.hexagonal.weather.model.RequestCancelledException;
+import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherNotFoundException;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
+import lombok.extern.jbosslog.JBossLog;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Outgoing adapter that shares cached weather between service instances.
+ * Each instance owns a slice of the grid cells (consistent hashing); lookups for cells owned
+ * by another instance are forwarded to that peer, and fetched upstream directly if the peer
+ * does not answer. With cluster mode disabled, every lookup goes straight to the upstream provider.
+ * <p>
+ * A cached cell answers any lookup for a subset of the measurements it holds. A lookup that needs
+ * more is fetched with the union of both sets, so the cell entry only ever grows until it expires.
+ */
+@ApplicationScoped
+@Typed(ClusterWeatherAdapter.class)
+@JBossLog
+public class ClusterWeatherAdapter implements WeatherProvider {
+
+    private final WeatherProvider upstream;
+    private final String self;
+    private final ConsistentHashRing ring;
+    private final PeerClient peerClient;
+    private final CellCache cache;
+    private final double cellSize;
+    private final Map<GridCell, Load> inFlight = new ConcurrentHashMap<>();
+
+    @Inject
+    public ClusterWeatherAdapter(WeatherProvider upstream, ClusterConfig config) {
+        this(
+            upstream,
+            config.enabled() ? ClusterMembership.load(config) : null,
+            config.virtualNodes(),
+            new PeerClient(config.peerTimeout(), config.secret().orElse(null)),
+            new CellCache(config.cacheTtl(), config.cacheMaxEntries()),
+            config.cellSize()
+        );
+        if (config.enabled() && config.secret().isEmpty()) {
+            log.warn("No weather.cluster.secret configured: lookups forwarded by peers are charged to the anonymous client");
+        }
+    }
+
+    /**
+     * Creates the adapter from its parts.
+     *
+     * @param membership Cluster membership, or null to disable cluster mode
+     */
+    public ClusterWeatherAdapter(WeatherProvider upstream, ClusterMembership membership, int virtualNodes,
+                                 PeerClient peerClient, CellCache cache, double cellSize) {
+        this.upstream = upstream;
+        this.self = membership != null ? membership.self() : null;
+        this.ring = membership != null ? new ConsistentHashRing(membership.members(), virtualNodes) : null;
+        this.peerClient = peerClient;
+        this.cache = cache;
+        this.cellSize = cellSize;
+
+        if (membership != null) {
+            log.infof("Cluster mode enabled: self=%s, members=%s", self, membership.members());
+        }
+    }
+
+    public boolean isEnabled() {
+        return ring != null;
+    }
+
+    @Override
+    public Weather fetchWeather(WeatherQuery query) {
+        if (!isEnabled()) {
+            return upstream.fetchWeather(query);
+        }
+
+        GridCell cell = GridCell.of(query.location(), cellSize);
+        String owner = ring.ownerOf(cell);
+        if (owner.equals(self)) {
+            return fetchOwned(query);
+        }
+
+        try {
+            return peerClient.fetch(owner, query);
+        } catch (PeerUnavailableException e) {
+            query.deadline().check();
+            log.warnf("Peer %s did not answer for %s, fetching upstream directly: %s",
+                owner, cell, e.getCause());
+            return upstream.fetchWeather(query);
+        }
+    }
+
+    /**
+     * Serves a lookup for a cell this instance owns: from the cache, or upstream on a miss.
+     * Concurrent misses for the same cell share a single upstream call, unless they need
+     * measurements the running call does not fetch; such a lookup starts a wider call that
+     * later lookups join instead. A shared call counts against the upstream share of the client that started it.
+     */
+    public Weather fetchOwned(WeatherQuery query) {
+        Location location = query.location();
+        Set<Measurement> measurements = query.measurements();
+        GridCell cell = GridCell.of(location, cellSize);
+
+        while (true) {
+            Weather cached = cache.get(cell);
+            if (cached != null && cached.covers(measurements)) {
+                return cached.at(location);
+            }
+
+            Set<Measurement> wanted = EnumSet.noneOf(Measurement.class);
+            wanted.addAll(measurements);
+            if (cached != null) {
+                wanted.addAll(cached.measurements().keySet());
+            }
+            Load running = inFlight.get(cell);
+            if (running != null) {
+                wanted.addAll(running.measurements());
+            }
+
+            Load loading = new Load(wanted, new CompletableFuture<>());
+            Load existing = inFlight.compute(cell, (key, current) -> current != null
+                && !current.result().isDone()
+                && current.measurements().containsAll(measurements) ? current : loading);
+            if (existing != loading) {
+                try {
+                    return await(existing.result(), query.deadline()).at(location);
+                } catch (DeadlineExceededException | RequestCancelledException e) {
+                    // The shared load may have been abandoned by another request; retry within our own budget
+                    query.deadline().check();
+                    continue;
+                }
+            }
+
+            // Leave the map before completing, so a waiter that retries starts a new load instead of this one
+            try {
+                Weather weather = upstream.fetchWeather(query.withMeasurements(loading.measurements()));
+                cache.put(cell, weather);
+                inFlight.remove(cell, loading);
+                loading.result().complete(weather);
+                return weather;
+            } catch (RuntimeException e) {
+                inFlight.remove(cell, loading);
+                loading.result().completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    private static Weather await(CompletableFuture<Weather> loading, Deadline deadline) {
+        try {
+            return deadline.isBounded()
+                ? loading.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS)
+                : loading.get();
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("Request deadline exceeded waiting for a concurrent load");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestCancelledException("Interrupted waiting for a concurrent load");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new WeatherNotFoundException("Unable to fetch weather data", e.getCause());
+        }
+    }
+
+    private record Load(Set<Measurement> measurements, CompletableFuture<Weather> result) {
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.hexagonal.weather.adapter.cluster.cache;
+
+import io.github.hexagonal.weather.model.GridCell;
+import io.github.hexagonal.weather.model.Weather;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Time-bounded in-memory cache of weather per grid cell, kept by the owner of each cell.
+ * An entry holds every measurement fetched for its cell, so it also answers narrower lookups.
+ * <p>
+ * Entries are kept in the order they were written. As they all live for the same TTL, that is also
+ * the order in which they expire: a write drops expired entries from the head, then the oldest live
+ * ones while the cache is over its maximum size, so making room costs constant time per entry dropped.
+ */
+public class CellCache {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<GridCell, Entry> entries = new LinkedHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public CellCache(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached weather for the cell, or null if absent or expired.
+     */
+    public Weather get(GridCell cell) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(cell);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                entries.remove(cell);
+                return null;
+            }
+            return entry.weather();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Caches the weather of a cell. A live entry holding measurements the new weather lacks is kept,
+     * so a narrow load that finishes after a wider one does not shrink the entry.
+     */
+    public void put(GridCell cell, Weather weather) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            Entry current = entries.get(cell);
+            if (current != null && !current.isExpired(now)
+                && !weather.covers(current.weather().measurements().keySet())) {
+                return;
+            }
+            // Removing and putting again moves the cell to the end of the write order
+            entries.remove(cell);
+            entries.put(cell, new Entry(weather, now + ttlNanos));
+            evict(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict(long now) {
+        Iterator<Entry> oldest = entries.values().iterator();
+        while (oldest.hasNext()) {
+            Entry entry = oldest.next();
+            if (!entry.isExpired(now) && entries.size() <= maxEntries) {
+                return;
+            }
+            oldest.remove();
+        }
+    }
+
+    private record Entry(Weather weather, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.hexagonal.weather.adapter.cluster.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Configuration for cluster mode (weather.cluster.*).
+ */
+@ConfigMapping(prefix = "weather.cluster")
+public interface ClusterConfig {
+
+    /**
+     * Whether cluster mode is enabled. When disabled, every lookup goes straight upstream.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Base URL of this instance as it appears in the member list, e.g. {@code http://10.0.0.1:8080}.
+     */
+    Optional<String> self();
+
+    /**
+     * Static list of member base URLs.
+     */
+    Optional<List<String>> members();
+
+    /**
+     * File with one member base URL per line; lines starting with {@code #} are ignored.
+     * Used when no static member list is configured.
+     */
+    Optional<Path> membersFile();
+
+    /**
+     * Secret shared by all members and sent with every peer lookup. When set, peer lookups without it
+     * are rejected, and the client a lookup is forwarded for is trusted; when unset, forwarded lookups
+     * are charged to the anonymous client, since anyone reaching the port could claim to be any client.
+     */
+    Optional<String> secret();
+
+    /**
+     * Number of positions each member takes on the hash ring.
+     */
+    @WithDefault("128")
+    int virtualNodes();
+
+    /**
+     * Grid cell edge length in degrees.
+     */
+    @WithDefault("0.1")
+    double cellSize();
+
+    /**
+     * How long to wait for a peer before fetching upstream directly.
+     */
+    @WithDefault("500ms")
+    Duration peerTimeout();
+
+    /**
+     * How long the owner of a cell keeps its weather cached.
+     */
+    @WithDefault("10m")
+    Duration cacheTtl();
+
+    /**
+     * Maximum number of cells cached by this instance.
+     */
+    @WithDefault("100000")
+    int cacheMaxEntries();
+}
@@ -0,0 +1,123 @@
+package io.github.hexagonal.weather.adapter.cluster.peer;
+
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Measurement;
+import io.github.hexagonal.weather.model.RequestCancelledException;
+import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherNotFoundException;
+import io.github.hexagonal.weather.model.WeatherQuery;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * HTTP client for the internal peer protocol.
+ */
+public class PeerClient {
+
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final String secret;
+
+    /**
+     * Creates a client for a cluster without a shared secret.
+     */
+    public PeerClient(Duration timeout) {
+        this(timeout, null);
+    }
+
+    /**
+     * @param secret Cluster secret sent with every lookup, or null if none is configured
+     */
+    public PeerClient(Duration timeout, String secret) {
+        this.timeout = timeout;
+        this.secret = secret;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    }
+
+    /**
+     * Asks a peer for the weather of a cell it owns.
+     * Waits at most the configured peer timeout or the remaining budget, whichever is shorter,
+     * and aborts the call when the request is cancelled.
+     *
+     * @param peer  Base URL of the peer
+     * @param query The lookup to forward; its deadline bounds the call
+     * @return Weather as known by the peer
+     * @throws WeatherNotFoundException  if the peer answered but could not fetch the weather upstream
+     * @throws PeerUnavailableException  if the peer did not answer in time or answered unexpectedly
+     * @throws RequestCancelledException if the request was cancelled while waiting
+     */
+    public Weather fetch(String peer, WeatherQuery query) {
+        Location location = query.location();
+        Set<Measurement> measurements = query.measurements();
+        Deadline deadline = query.deadline();
+        Duration callTimeout = timeout;
+        String parameters = "?lat=" + location.latitude() + "&lon=" + location.longitude();
+        if (!measurements.isEmpty()) {
+            parameters += "&" + PeerProtocol.FIELDS_PARAM + "=" + PeerProtocol.formatMeasurements(measurements);
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+            .uri(URI.create(peer + PeerProtocol.PATH + parameters))
+            .header("Accept", PeerProtocol.MEDIA_TYPE)
+            .header(PeerProtocol.CLIENT_HEADER, query.client().name());
+        if (secret != null) {
+            builder.header(PeerProtocol.SECRET_HEADER, secret);
+        }
+        if (deadline.isBounded()) {
+            Duration remaining = deadline.remaining();
+            if (remaining.compareTo(callTimeout) < 0) {
+                callTimeout = remaining;
+            }
+            builder.header(PeerProtocol.DEADLINE_HEADER, Long.toString(remaining.toMillis()));
+        }
+        if (callTimeout.isZero()) {
+            throw new PeerUnavailableException(peer, new IOException("No time budget left"));
+        }
+        HttpRequest request = builder.timeout(callTimeout).GET().build();
+
+        CompletableFuture<HttpResponse<byte[]>> call =
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        deadline.onCancel(() -> call.cancel(true));
+
+        HttpResponse<byte[]> response;
+        try {
+            response = call.get();
+        } catch (CancellationException e) {
+            throw new RequestCancelledException("Request cancelled while waiting for peer " + peer);
+        } catch (ExecutionException e) {
+            throw new PeerUnavailableException(peer, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            call.cancel(true);
+            throw new PeerUnavailableException(peer, e);
+        }
+
+        return switch (response.statusCode()) {
+            case 200 -> decode(peer, response.body(), location);
+            case PeerProtocol.STATUS_UPSTREAM_FAILED -> throw WeatherNotFoundException.withoutStackTrace(location);
+            default -> throw new PeerUnavailableException(peer,
+                new IOException("Unexpected peer status: " + response.statusCode()));
+        };
+    }
+
+    private static Weather decode(String peer, byte[] body, Location location) {
+        try {
+            return PeerProtocol.decode(body, location);
+        } catch (UncheckedIOException | IllegalArgumentException e) {
+            throw new PeerUnavailableException(peer, e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.hexagonal.weather.adapter.cluster.peer;
+
+import io.github.hexagonal.weather.adapter.cluster.ClusterWeatherAdapter;
+import io.github.hexagonal.weather.adapter.cluster.config.ClusterConfig;
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.DeadlineExceededException;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Measurement;
+import io.github.hexagonal.weather.model.WeatherException;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.jbosslog.JBossLog;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Internal endpoint answering peer lookups for cells owned by this instance.
+ * Only available in cluster mode. With a cluster secret configured, lookups must carry it;
+ * without one, the forwarded client is ignored and lookups are charged to {@link ClientId#ANONYMOUS}.
+ */
+@Path(PeerProtocol.PATH)
+@JBossLog
+public class PeerEndpoint {
+
+    private final ClusterWeatherAdapter clusterAdapter;
+    private final byte[] secret;
+
+    @Inject
+    public PeerEndpoint(ClusterWeatherAdapter clusterAdapter, ClusterConfig config) {
+        this(clusterAdapter, config.secret().orElse(null));
+    }
+
+    /**
+     * @param secret Cluster secret peers must send, or null if none is configured
+     */
+    public PeerEndpoint(ClusterWeatherAdapter clusterAdapter, String secret) {
+        this.clusterAdapter = clusterAdapter;
+        this.secret = secret != null ? secret.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    @GET
+    @Produces(PeerProtocol.MEDIA_TYPE)
+    public Response getOwnedWeather(
+        @QueryParam("lat") double latitude,
+        @QueryParam("lon") double longitude,
+        @QueryParam(PeerProtocol.FIELDS_PARAM) String fields,
+        @HeaderParam(PeerProtocol.DEADLINE_HEADER) Long timeoutMillis,
+        @HeaderParam(PeerProtocol.CLIENT_HEADER) String clientName,
+        @HeaderParam(PeerProtocol.SECRET_HEADER) String peerSecret
+    ) {
+        if (!clusterAdapter.isEnabled()) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+
+        ClientId client = ClientId.ANONYMOUS;
+        if (secret != null) {
+            if (peerSecret == null || !MessageDigest.isEqual(secret, peerSecret.getBytes(StandardCharsets.UTF_8))) {
+                log.debug("Rejected peer lookup without a valid cluster secret");
+                return Response.status(Response.Status.FORBIDDEN).build();
+            }
+            client = ClientId.of(clientName);
+        }
+
+        Set<Measurement> measurements;
+        try {
+            measurements = PeerProtocol.parseMeasurements(fields);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        Deadline deadline = timeoutMillis != null
+            ? Deadline.after(Duration.ofMillis(timeoutMillis))
+            : Deadline.none();
+
+        try {
+            return Response.ok(PeerProtocol.encode(
+                clusterAdapter.fetchOwned(new WeatherQuery(new Location(latitude, longitude), measurements, deadline,
+                    client))
+            )).build();
+        } catch (DeadlineExceededException e) {
+            return Response.status(Response.Status.GATEWAY_TIMEOUT).build();
+        } catch (WeatherException e) {
+            log.debugf("Peer lookup failed upstream: lat=%f, lon=%f", latitude, longitude);
+            return Response.status(PeerProtocol.STATUS_UPSTREAM_FAILED).build();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.hexagonal.weather.adapter.cluster.peer;
+
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Measurement;
+import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherCondition;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Wire format of the internal peer protocol.
+ * A peer asks the owner of a cell with {@code GET /internal/cluster/weather?lat=&lon=&fields=},
+ * where {@code fields} lists the optional measurements it needs;
+ * the owner answers with a small binary body (version, temperature, condition, timestamp, measurements)
+ * or with {@link #STATUS_UPSTREAM_FAILED} if it could not fetch the weather itself.
+ * The caller passes its remaining time budget in {@link #DEADLINE_HEADER} (milliseconds), and the client
+ * the lookup is made for in {@link #CLIENT_HEADER} so the owner charges its upstream call to that client.
+ * The owner only trusts that client when the caller also sends the cluster secret in {@link #SECRET_HEADER}.
+ */
+public final class PeerProtocol {
+
+    public static final String PATH = "/internal/cluster/weather";
+    public static final String MEDIA_TYPE = "application/octet-stream";
+    public static final int STATUS_UPSTREAM_FAILED = 502;
+    public static final String DEADLINE_HEADER = "X-Request-Timeout";
+    public static final String CLIENT_HEADER = "X-Weather-Client";
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    public static final String FIELDS_PARAM = "fields";
+
+    private static final byte VERSION = 2;
+    private static final byte VERSION_WITHOUT_MEASUREMENTS = 1;
+
+    private PeerProtocol() {
+    }
+
+    public static byte[] encode(Weather weather) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeDouble(weather.temperature());
+            out.writeUTF(weather.condition().name());
+            out.writeLong(weather.timestamp().getEpochSecond());
+            out.writeInt(weather.timestamp().getNano());
+            out.writeByte(weather.measurements().size());
+            for (Map.Entry<Measurement, Double> measurement : weather.measurements().entrySet()) {
+                out.writeUTF(measurement.getKey().name());
+                out.writeDouble(measurement.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a peer answer for the location the caller asked about.
+     */
+    public static Weather decode(byte[] body, Location location) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+            byte version = in.readByte();
+            if (version != VERSION && version != VERSION_WITHOUT_MEASUREMENTS) {
+                throw new IOException("Unsupported peer protocol version: " + version);
+            }
+            double temperature = in.readDouble();
+            WeatherCondition condition = WeatherCondition.valueOf(in.readUTF());
+            Instant timestamp = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            Map<Measurement, Double> measurements = new EnumMap<>(Measurement.class);
+            if (version == VERSION) {
+                int count = in.readUnsignedByte();
+                for (int i = 0; i < count; i++) {
+                    measurements.put(Measurement.valueOf(in.readUTF()), in.readDouble());
+                }
+            }
+            return new Weather(location, temperature, condition, timestamp, measurements);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Formats measurements for the {@link #FIELDS_PARAM} query parameter.
+     */
+    public static String formatMeasurements(Set<Measurement> measurements) {
+        StringJoiner names = new StringJoiner(",");
+        measurements.forEach(measurement -> names.add(measurement.name()));
+        return names.toString();
+    }
+
+    /**
+     * Parses the {@link #FIELDS_PARAM} query parameter.
+     *
+     * @throws IllegalArgumentException if a measurement is unknown
+     */
+    public static Set<Measurement> parseMeasurements(String fields) {
+        Set<Measurement> measurements = EnumSet.noneOf(Measurement.class);
+        if (fields != null && !fields.isBlank()) {
+            for (String name : fields.split(",")) {
+                measurements.add(Measurement.valueOf(name.strip()));
+            }
+        }
+        return measurements;
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.hexagonal.weather.adapter.cluster.peer;
+
+/**
+ * Thrown when a peer cannot be reached or gives an unusable answer.
+ * Callers are expected to fall back to fetching upstream themselves.
+ */
+public class PeerUnavailableException extends RuntimeException {
+
+    public PeerUnavailableException(String peer, Throwable cause) {
+        super("Peer unavailable: " + peer, cause);
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.hexagonal.weather.adapter.cluster.ring;
+
+import io.github.hexagonal.weather.adapter.cluster.config.ClusterConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The set of instances taking part in the cluster, and which of them is this instance.
+ *
+ * @param self    Base URL of this instance
+ * @param members Base URLs of all instances, including this one
+ */
+public record ClusterMembership(
+    String self,
+    List<String> members
+) {
+    public ClusterMembership {
+        members = members.stream().map(ClusterMembership::normalize).distinct().toList();
+        self = normalize(self);
+        if (!members.contains(self)) {
+            throw new IllegalArgumentException("Cluster members " + members + " do not include self: " + self);
+        }
+    }
+
+    /**
+     * Loads membership from the static member list, or from the members file if no list is configured.
+     */
+    public static ClusterMembership load(ClusterConfig config) {
+        String self = config.self()
+            .orElseThrow(() -> new IllegalStateException("weather.cluster.self is required in cluster mode"));
+
+        List<String> members = config.members()
+            .or(() -> config.membersFile().map(ClusterMembership::readMembersFile))
+            .orElseThrow(() -> new IllegalStateException(
+                "weather.cluster.members or weather.cluster.members-file is required in cluster mode"));
+
+        return new ClusterMembership(self, members);
+    }
+
+    static List<String> readMembersFile(Path file) {
+        try {
+            return Files.readAllLines(file).stream()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read cluster members file: " + file, e);
+        }
+    }
+
+    private static String normalize(String member) {
+        String stripped = member.strip();
+        return stripped.endsWith("/") ? stripped.substring(0, stripped.length() - 1) : stripped;
+    }
+}
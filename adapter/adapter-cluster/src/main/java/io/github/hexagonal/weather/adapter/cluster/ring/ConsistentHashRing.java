@@ -0,0 +1,62 @@
+package io.github.hexagonal.weather.adapter.cluster.ring;
+
+import io.github.hexagonal.weather.model.GridCell;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring assigning each grid cell to exactly one cluster member.
+ * Every member is placed on the ring several times (virtual nodes) to spread cells evenly;
+ * adding or removing a member only moves the cells adjacent to its positions.
+ * The hash functions are fixed so that every instance computes the same owner for a cell.
+ */
+public class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> members, int virtualNodes) {
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("Hash ring needs at least one member");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("Virtual nodes must be positive: " + virtualNodes);
+        }
+        for (String member : members) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(member + "#" + i), member);
+            }
+        }
+    }
+
+    /**
+     * Returns the member that owns the given cell.
+     */
+    public String ownerOf(GridCell cell) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(mix(cell.toLong()));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    private static long hash(String value) {
+        // FNV-1a, then mixed so that similar member names land far apart
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        // MurmurHash3 64-bit finalizer
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
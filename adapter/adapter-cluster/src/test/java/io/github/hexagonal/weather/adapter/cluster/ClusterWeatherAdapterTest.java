@@ -0,0 +1,305 @@
+package io.github.hexagonal.weather.adapter.cluster;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.hexagonal.weather.adapter.cluster.cache.CellCache;
+import io.github.hexagonal.weather.adapter.cluster.peer.PeerClient;
+import io.github.hexagonal.weather.adapter.cluster.peer.PeerEndpoint;
+import io.github.hexagonal.weather.adapter.cluster.peer.PeerProtocol;
+import io.github.hexagonal.weather.adapter.cluster.ring.ClusterMembership;
+import io.github.hexagonal.weather.adapter.cluster.ring.ConsistentHashRing;
+import io.github.hexagonal.weather.application.port.out.WeatherProvider;
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.DeadlineExceededException;
+import io.github.hexagonal.weather.model.GridCell;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Measurement;
+import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherCondition;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests cluster mode with several in-process instances on localhost.
+ * Each instance serves its {@link PeerEndpoint} from a JDK HTTP server and counts its upstream calls.
+ */
+class ClusterWeatherAdapterTest {
+
+    private static final int NODES = 3;
+    private static final double CELL_SIZE = 0.1;
+    private static final String SECRET = "s3cret";
+
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final List<ClusterWeatherAdapter> nodes = new ArrayList<>();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final List<Set<Measurement>> upstreamRequests = new CopyOnWriteArrayList<>();
+    private final List<ClientId> upstreamClients = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        List<String> members = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            servers.add(server);
+            members.add("http://127.0.0.1:" + server.getAddress().getPort());
+        }
+
+        WeatherProvider upstream = query -> {
+            upstreamCalls.incrementAndGet();
+            upstreamRequests.add(query.measurements());
+            upstreamClients.add(query.client());
+            Map<Measurement, Double> values = new EnumMap<>(Measurement.class);
+            query.measurements().forEach(measurement -> values.put(measurement, 1.0));
+            return new Weather(query.location(), 20.5, WeatherCondition.CLEAR, Instant.parse("2025-09-30T12:45:00Z"),
+                values);
+        };
+
+        for (int i = 0; i < NODES; i++) {
+            ClusterWeatherAdapter node = new ClusterWeatherAdapter(
+                upstream,
+                new ClusterMembership(members.get(i), members),
+                64,
+                new PeerClient(Duration.ofMillis(500), SECRET),
+                new CellCache(Duration.ofMinutes(10), 1000),
+                CELL_SIZE
+            );
+            nodes.add(node);
+            PeerEndpoint endpoint = new PeerEndpoint(node, SECRET);
+            servers.get(i).createContext(PeerProtocol.PATH, exchange -> serve(endpoint, exchange));
+            servers.get(i).start();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(server -> server.stop(0));
+    }
+
+    @Test
+    void shouldFetchEachCellUpstreamOnlyOnceAcrossInstances() {
+        // Given
+        List<Location> locations = locations(30);
+
+        // When: every instance is asked for every location
+        for (ClusterWeatherAdapter node : nodes) {
+            for (Location location : locations) {
+                Weather weather = node.fetchWeather(WeatherQuery.of(location));
+                assertEquals(location, weather.location());
+                assertEquals(20.5, weather.temperature());
+            }
+        }
+
+        // Then
+        assertEquals(distinctCells(locations), upstreamCalls.get());
+    }
+
+    @Test
+    void shouldSpreadCellsOverAllInstances() {
+        // Given
+        List<String> members = servers.stream()
+            .map(server -> "http://127.0.0.1:" + server.getAddress().getPort())
+            .toList();
+        ConsistentHashRing ring = new ConsistentHashRing(members, 64);
+        Map<String, Integer> ownedPerMember = new HashMap<>();
+
+        // When
+        for (int lat = 0; lat < 30; lat++) {
+            for (int lon = 0; lon < 30; lon++) {
+                ownedPerMember.merge(ring.ownerOf(new GridCell(lat, lon)), 1, Integer::sum);
+            }
+        }
+
+        // Then: every instance owns a fair share of the 900 cells
+        assertEquals(NODES, ownedPerMember.size());
+        ownedPerMember.values().forEach(owned -> assertTrue(owned > 150, "owned " + owned));
+    }
+
+    @Test
+    void shouldFallBackToUpstreamWhenPeerIsDown() {
+        // Given
+        servers.get(1).stop(0);
+        List<Location> locations = locations(30);
+
+        // When
+        for (Location location : locations) {
+            assertNotNull(nodes.get(0).fetchWeather(WeatherQuery.of(location)));
+        }
+
+        // Then: every cell was still fetched exactly once, either by its owner or directly
+        assertEquals(distinctCells(locations), upstreamCalls.get());
+    }
+
+    @Test
+    void shouldAnswerNarrowerLookupsFromWiderCachedCell() {
+        // Given
+        Location location = new Location(50.85, 4.35);
+        Set<Measurement> wide = Set.of(Measurement.WIND_SPEED, Measurement.RELATIVE_HUMIDITY);
+
+        // When
+        Weather first = nodes.get(0).fetchWeather(query(location, wide));
+        Weather narrower = nodes.get(1).fetchWeather(query(location, Set.of(Measurement.WIND_SPEED)));
+        Weather basic = nodes.get(2).fetchWeather(WeatherQuery.of(location));
+
+        // Then
+        assertTrue(first.covers(wide));
+        assertTrue(narrower.covers(Set.of(Measurement.WIND_SPEED)));
+        assertNotNull(basic);
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void shouldWidenCachedCellWhenMoreMeasurementsAreNeeded() {
+        // Given
+        Location location = new Location(50.85, 4.35);
+        nodes.get(0).fetchWeather(query(location, Set.of(Measurement.WIND_SPEED)));
+
+        // When
+        Weather weather = nodes.get(1).fetchWeather(query(location, Set.of(Measurement.CLOUD_COVER)));
+        nodes.get(2).fetchWeather(query(location, Set.of(Measurement.WIND_SPEED, Measurement.CLOUD_COVER)));
+
+        // Then: the second call fetched both sets at once, the third was served from the cache
+        assertTrue(weather.covers(Set.of(Measurement.CLOUD_COVER)));
+        assertEquals(List.of(
+            Set.of(Measurement.WIND_SPEED),
+            Set.of(Measurement.WIND_SPEED, Measurement.CLOUD_COVER)
+        ), upstreamRequests);
+    }
+
+    private static void serve(PeerEndpoint endpoint, HttpExchange exchange) throws IOException {
+        Map<String, String> query = new HashMap<>();
+        for (String param : exchange.getRequestURI().getQuery().split("&")) {
+            String[] pair = param.split("=");
+            query.put(pair[0], pair[1]);
+        }
+        Headers headers = exchange.getRequestHeaders();
+        String timeout = headers.getFirst(PeerProtocol.DEADLINE_HEADER);
+
+        try {
+            Response response = endpoint.getOwnedWeather(
+                Double.parseDouble(query.get("lat")),
+                Double.parseDouble(query.get("lon")),
+                query.get(PeerProtocol.FIELDS_PARAM),
+                timeout != null ? Long.valueOf(timeout) : null,
+                headers.getFirst(PeerProtocol.CLIENT_HEADER),
+                headers.getFirst(PeerProtocol.SECRET_HEADER)
+            );
+            byte[] body = (byte[]) response.getEntity();
+            exchange.sendResponseHeaders(response.getStatus(), body != null ? body.length : -1);
+            if (body != null) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Test
+    void shouldChargeForwardedLookupsToRequestingClient() {
+        // Given
+        List<Location> locations = locations(30);
+        ClientId client = new ClientId("reporting");
+
+        // When: most cells are owned by other instances and fetched there
+        for (Location location : locations) {
+            nodes.get(0).fetchWeather(new WeatherQuery(location, Set.of(), Deadline.none(), client));
+        }
+
+        // Then
+        assertEquals(distinctCells(locations), upstreamClients.size());
+        upstreamClients.forEach(upstreamClient -> assertEquals(client, upstreamClient));
+    }
+
+    @Test
+    void shouldLoadAgainWhenSharedLoadFailsOnItsOwnDeadline() throws Exception {
+        // Given: the first lookup's upstream call runs out of its budget while a second lookup waits for it
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch expire = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        WeatherProvider upstream = query -> {
+            if (calls.incrementAndGet() == 1) {
+                started.countDown();
+                awaitUninterruptibly(expire);
+                throw new DeadlineExceededException("Request deadline exceeded");
+            }
+            return new Weather(query.location(), 20.5, WeatherCondition.CLEAR);
+        };
+        String self = "http://127.0.0.1:8080";
+        ClusterWeatherAdapter node = new ClusterWeatherAdapter(upstream, new ClusterMembership(self, List.of(self)), 64,
+            new PeerClient(Duration.ofMillis(500)), new CellCache(Duration.ofMinutes(10), 1000), CELL_SIZE);
+        Location location = new Location(50.85, 4.35);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<Weather> first = executor.submit(() -> node.fetchOwned(WeatherQuery.of(location)));
+            started.await();
+            Future<Weather> second = executor.submit(() -> node.fetchOwned(WeatherQuery.of(location)));
+            Thread.sleep(100);
+            expire.countDown();
+
+            // Then: the waiter starts its own load instead of retrying the failed one
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(DeadlineExceededException.class, failure.getCause());
+            assertEquals(20.5, second.get(5, TimeUnit.SECONDS).temperature());
+            assertEquals(2, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static WeatherQuery query(Location location, Set<Measurement> measurements) {
+        return WeatherQuery.of(location).withMeasurements(measurements);
+    }
+
+    private static List<Location> locations(int count) {
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            locations.add(new Location(50.05 + i * 0.1, 4.05 + (i % 7) * 0.1));
+        }
+        return locations;
+    }
+
+    private static int distinctCells(List<Location> locations) {
+        Set<GridCell> cells = new HashSet<>();
+        locations.forEach(location -> cells.add(GridCell.of(location, CELL_SIZE)));
+        return cells.size();
+    }
+}
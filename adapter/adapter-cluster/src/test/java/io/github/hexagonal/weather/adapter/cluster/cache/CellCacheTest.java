@@ -0,0 +1,109 @@
+package io.github.hexagonal.weather.adapter.cluster.cache;
+
+import io.github.hexagonal.weather.model.GridCell;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherCondition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CellCache.
+ */
+class CellCacheTest {
+
+    private final GridCell brussels = new GridCell(508, 43);
+    private final GridCell antwerp = new GridCell(512, 44);
+    private final GridCell ghent = new GridCell(510, 37);
+
+    @Test
+    void shouldKeepMostRecentlyWrittenCellsWhenFull() {
+        // Given
+        CellCache cache = new CellCache(Duration.ofMinutes(10), 3);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            cache.put(new GridCell(500 + i, 40), weather(i));
+        }
+
+        // Then
+        assertEquals(3, cache.size());
+        for (int i = 0; i < 7; i++) {
+            assertNull(cache.get(new GridCell(500 + i, 40)), "cell " + i);
+        }
+        for (int i = 7; i < 10; i++) {
+            assertEquals(i, cache.get(new GridCell(500 + i, 40)).temperature());
+        }
+    }
+
+    @Test
+    void shouldEvictOldestEntryWhenFullOfLiveEntries() {
+        // Given
+        CellCache cache = new CellCache(Duration.ofMinutes(10), 2);
+        cache.put(brussels, weather(18.5));
+        cache.put(antwerp, weather(17.0));
+
+        // When
+        cache.put(ghent, weather(16.5));
+
+        // Then
+        assertEquals(2, cache.size());
+        assertNull(cache.get(brussels));
+        assertEquals(17.0, cache.get(antwerp).temperature());
+        assertEquals(16.5, cache.get(ghent).temperature());
+    }
+
+    @Test
+    void shouldUpdateCachedCellWithoutEvictingWhenFull() {
+        // Given
+        CellCache cache = new CellCache(Duration.ofMinutes(10), 2);
+        cache.put(brussels, weather(18.5));
+        cache.put(antwerp, weather(17.0));
+
+        // When
+        cache.put(brussels, weather(19.0));
+
+        // Then
+        assertEquals(19.0, cache.get(brussels).temperature());
+        assertEquals(17.0, cache.get(antwerp).temperature());
+    }
+
+    @Test
+    void shouldTreatRewrittenCellAsNewest() {
+        // Given
+        CellCache cache = new CellCache(Duration.ofMinutes(10), 2);
+        cache.put(brussels, weather(18.5));
+        cache.put(antwerp, weather(17.0));
+        cache.put(brussels, weather(19.0));
+
+        // When
+        cache.put(ghent, weather(16.5));
+
+        // Then
+        assertNull(cache.get(antwerp));
+        assertEquals(19.0, cache.get(brussels).temperature());
+        assertEquals(16.5, cache.get(ghent).temperature());
+    }
+
+    @Test
+    void shouldDropExpiredEntriesOnWrite() throws Exception {
+        // Given
+        CellCache cache = new CellCache(Duration.ofMillis(20), 100);
+        cache.put(brussels, weather(18.5));
+        cache.put(antwerp, weather(17.0));
+        Thread.sleep(50);
+
+        // When
+        cache.put(ghent, weather(16.5));
+
+        // Then
+        assertEquals(1, cache.size());
+    }
+
+    private static Weather weather(double temperature) {
+        return new Weather(new Location(50.85, 4.35), temperature, WeatherCondition.CLEAR);
+    }
+}
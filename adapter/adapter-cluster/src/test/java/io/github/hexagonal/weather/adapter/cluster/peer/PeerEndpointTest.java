@@ -0,0 +1,171 @@
+package io.github.hexagonal.weather.adapter.cluster.peer;
+
+import io.github.hexagonal.weather.adapter.cluster.ClusterWeatherAdapter;
+import io.github.hexagonal.weather.adapter.cluster.cache.CellCache;
+import io.github.hexagonal.weather.adapter.cluster.ring.ClusterMembership;
+import io.github.hexagonal.weather.application.port.out.WeatherProvider;
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Measurement;
+import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherCondition;
+import io.github.hexagonal.weather.model.WeatherNotFoundException;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the peer endpoint of a single-member cluster, which owns every cell.
+ */
+class PeerEndpointTest {
+
+    private static final String SELF = "http://127.0.0.1:8080";
+
+    private final List<ClientId> upstreamClients = new CopyOnWriteArrayList<>();
+    private final List<Set<Measurement>> upstreamRequests = new CopyOnWriteArrayList<>();
+    private volatile boolean upstreamFails;
+
+    private final WeatherProvider upstream = query -> {
+        query.deadline().check();
+        if (upstreamFails) {
+            throw new WeatherNotFoundException(query.location());
+        }
+        upstreamClients.add(query.client());
+        upstreamRequests.add(query.measurements());
+        Map<Measurement, Double> values = new EnumMap<>(Measurement.class);
+        query.measurements().forEach(measurement -> values.put(measurement, 1.0));
+        return new Weather(query.location(), 20.5, WeatherCondition.CLEAR, Instant.parse("2025-09-30T12:45:00Z"),
+            values);
+    };
+
+    @Test
+    void shouldAnswerNotFoundWhenClusterModeIsDisabled() {
+        // Given
+        ClusterWeatherAdapter standalone = new ClusterWeatherAdapter(upstream, null, 64,
+            new PeerClient(Duration.ofMillis(500)), new CellCache(Duration.ofMinutes(10), 1000), 0.1);
+        PeerEndpoint endpoint = new PeerEndpoint(standalone, (String) null);
+
+        // When
+        Response response = endpoint.getOwnedWeather(50.85, 4.35, null, null, null, null);
+
+        // Then
+        assertEquals(404, response.getStatus());
+        assertTrue(upstreamClients.isEmpty());
+    }
+
+    @Test
+    void shouldFetchRequestedMeasurements() {
+        // Given
+        PeerEndpoint endpoint = new PeerEndpoint(clusterAdapter(), (String) null);
+
+        // When
+        Response response = endpoint.getOwnedWeather(50.85, 4.35, "WIND_SPEED, CLOUD_COVER", 1000L, null, null);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals(List.of(Set.of(Measurement.WIND_SPEED, Measurement.CLOUD_COVER)), upstreamRequests);
+        Weather weather = PeerProtocol.decode((byte[]) response.getEntity(), new Location(50.85, 4.35));
+        assertEquals(20.5, weather.temperature());
+        assertTrue(weather.covers(Set.of(Measurement.WIND_SPEED, Measurement.CLOUD_COVER)));
+    }
+
+    @Test
+    void shouldRejectUnknownMeasurement() {
+        // Given
+        PeerEndpoint endpoint = new PeerEndpoint(clusterAdapter(), (String) null);
+
+        // When
+        Response response = endpoint.getOwnedWeather(50.85, 4.35, "WIND_SPEED,SNOW_DEPTH", null, null, null);
+
+        // Then
+        assertEquals(400, response.getStatus());
+        assertTrue(upstreamRequests.isEmpty());
+    }
+
+    @Test
+    void shouldAnswerGatewayTimeoutWhenCallerBudgetIsSpent() {
+        // Given
+        PeerEndpoint endpoint = new PeerEndpoint(clusterAdapter(), (String) null);
+
+        // When
+        Response response = endpoint.getOwnedWeather(50.85, 4.35, null, 0L, null, null);
+
+        // Then
+        assertEquals(504, response.getStatus());
+        assertTrue(upstreamRequests.isEmpty());
+    }
+
+    @Test
+    void shouldAnswerUpstreamFailedWhenUpstreamFails() {
+        // Given
+        PeerEndpoint endpoint = new PeerEndpoint(clusterAdapter(), (String) null);
+        upstreamFails = true;
+
+        // When
+        Response response = endpoint.getOwnedWeather(50.85, 4.35, null, null, null, null);
+
+        // Then
+        assertEquals(PeerProtocol.STATUS_UPSTREAM_FAILED, response.getStatus());
+    }
+
+    @Test
+    void shouldRejectLookupWithoutClusterSecret() {
+        // Given
+        PeerEndpoint endpoint = new PeerEndpoint(clusterAdapter(), "s3cret");
+
+        // When
+        Response missing = endpoint.getOwnedWeather(50.85, 4.35, null, null, "reporting", null);
+        Response wrong = endpoint.getOwnedWeather(50.85, 4.35, null, null, "reporting", "guess");
+
+        // Then
+        assertEquals(403, missing.getStatus());
+        assertEquals(403, wrong.getStatus());
+        assertTrue(upstreamClients.isEmpty());
+    }
+
+    @Test
+    void shouldChargeLookupToForwardedClientWhenSecretMatches() {
+        // Given
+        PeerEndpoint endpoint = new PeerEndpoint(clusterAdapter(), "s3cret");
+
+        // When
+        Response response = endpoint.getOwnedWeather(50.85, 4.35, null, null, "reporting", "s3cret");
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals(List.of(new ClientId("reporting")), upstreamClients);
+    }
+
+    @Test
+    void shouldIgnoreForwardedClientWithoutConfiguredSecret() {
+        // Given
+        PeerEndpoint endpoint = new PeerEndpoint(clusterAdapter(), (String) null);
+
+        // When
+        Response response = endpoint.getOwnedWeather(50.85, 4.35, null, null, "reporting", null);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals(List.of(ClientId.ANONYMOUS), upstreamClients);
+    }
+
+    private ClusterWeatherAdapter clusterAdapter() {
+        return new ClusterWeatherAdapter(
+            upstream,
+            new ClusterMembership(SELF, List.of(SELF)),
+            64,
+            new PeerClient(Duration.ofMillis(500)),
+            new CellCache(Duration.ofMinutes(10), 1000),
+            0.1
+        );
+    }
+}
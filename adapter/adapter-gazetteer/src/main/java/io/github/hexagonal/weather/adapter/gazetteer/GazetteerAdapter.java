@@ -0,0 +1,74 @@
+package io.github.hexagonal.weather.adapter.gazetteer;
+
+import io.github.hexagonal.weather.adapter.gazetteer.config.GazetteerConfig;
+import io.github.hexagonal.weather.adapter.gazetteer.index.CityIndex;
+import io.github.hexagonal.weather.application.port.out.Gazetteer;
+import io.github.hexagonal.weather.model.City;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.jbosslog.JBossLog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outgoing adapter that implements Gazetteer using an embedded, read-only city index.
+ */
+@ApplicationScoped
+@JBossLog
+public class GazetteerAdapter implements Gazetteer {
+
+    static final String BUNDLED_INDEX = "gazetteer/cities.idx";
+
+    private final CityIndex index;
+
+    @Inject
+    public GazetteerAdapter(GazetteerConfig config) {
+        long start = System.nanoTime();
+
+        this.index = config.indexFile()
+            .map(GazetteerAdapter::openFile)
+            .orElseGet(GazetteerAdapter::readBundled);
+
+        log.infof("Loaded gazetteer with %d cities in %.1f ms",
+            index.size(), (System.nanoTime() - start) / 1_000_000.0);
+    }
+
+    public GazetteerAdapter(CityIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public Optional<City> findByName(String name) {
+        return index.findByName(name);
+    }
+
+    @Override
+    public List<City> findByPrefix(String prefix, int limit) {
+        return index.findByPrefix(prefix, limit);
+    }
+
+    private static CityIndex openFile(Path file) {
+        try {
+            return CityIndex.open(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open city index: " + file, e);
+        }
+    }
+
+    private static CityIndex readBundled() {
+        try (InputStream in = GazetteerAdapter.class.getClassLoader().getResourceAsStream(BUNDLED_INDEX)) {
+            if (in == null) {
+                log.warnf("No bundled city index found (%s), city lookups will find nothing", BUNDLED_INDEX);
+                return CityIndex.empty();
+            }
+            return CityIndex.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read bundled city index", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.hexagonal.weather.adapter.gazetteer.config;
+
+import io.smallrye.config.ConfigMapping;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Configuration for the embedded gazetteer (weather.gazetteer.*).
+ */
+@ConfigMapping(prefix = "weather.gazetteer")
+public interface GazetteerConfig {
+
+    /**
+     * City index file built with CityIndexWriter. The file is memory-mapped.
+     * When absent, the small sample index bundled with the application is used.
+     */
+    Optional<Path> indexFile();
+}
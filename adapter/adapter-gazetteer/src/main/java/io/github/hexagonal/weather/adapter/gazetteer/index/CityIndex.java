@@ -0,0 +1,203 @@
+package io.github.hexagonal.weather.adapter.gazetteer.index;
+
+import io.github.hexagonal.weather.model.City;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Read-only city index over a binary file written by {@link CityIndexWriter}.
+ * <p>
+ * Cities are sorted by their normalized name (lower case, accents removed), so a prefix query is a
+ * binary search for the first match followed by a scan of at most {@code limit} entries. Nothing
+ * is parsed when the index is opened: all lookups read straight from the (memory-mapped) buffer.
+ * <p>
+ * File layout, big-endian:
+ * <pre>
+ * int   magic, count, keysLength, namesLength
+ * int   keyOffsets[count + 1], nameOffsets[count + 1]
+ * int   latitudesE5[count], longitudesE5[count], populations[count]
+ * byte  countryCodes[count * 2]
+ * byte  keys[keysLength], names[namesLength]   (UTF-8)
+ * </pre>
+ */
+public final class CityIndex {
+
+    static final int MAGIC = 0x475A5431; // "GZT1"
+    static final double COORDINATE_SCALE = 100_000.0;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int keyOffsetsStart;
+    private final int nameOffsetsStart;
+    private final int latitudesStart;
+    private final int longitudesStart;
+    private final int populationsStart;
+    private final int countryCodesStart;
+    private final int keysStart;
+    private final int namesStart;
+
+    private CityIndex(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a city index: bad magic number");
+        }
+        this.count = buffer.getInt(4);
+        int keysLength = buffer.getInt(8);
+
+        this.keyOffsetsStart = 16;
+        this.nameOffsetsStart = keyOffsetsStart + (count + 1) * Integer.BYTES;
+        this.latitudesStart = nameOffsetsStart + (count + 1) * Integer.BYTES;
+        this.longitudesStart = latitudesStart + count * Integer.BYTES;
+        this.populationsStart = longitudesStart + count * Integer.BYTES;
+        this.countryCodesStart = populationsStart + count * Integer.BYTES;
+        this.keysStart = countryCodesStart + count * 2;
+        this.namesStart = keysStart + keysLength;
+    }
+
+    /**
+     * Memory-maps an index file.
+     */
+    public static CityIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new CityIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads an index from a stream, e.g. a classpath resource that cannot be mapped.
+     */
+    public static CityIndex read(InputStream in) throws IOException {
+        return new CityIndex(ByteBuffer.wrap(in.readAllBytes()));
+    }
+
+    /**
+     * Returns an index without any cities.
+     */
+    public static CityIndex empty() {
+        return new CityIndex(ByteBuffer.wrap(CityIndexWriter.toBytes(List.of())));
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Lists cities whose normalized name starts with the normalized prefix, in index order.
+     */
+    public List<City> findByPrefix(String prefix, int limit) {
+        byte[] key = normalize(prefix).getBytes(StandardCharsets.UTF_8);
+        List<City> result = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(key); i < count && result.size() < limit && keyStartsWith(i, key); i++) {
+            result.add(cityAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the most populous city whose normalized name equals the normalized name.
+     */
+    public Optional<City> findByName(String name) {
+        byte[] key = normalize(name).getBytes(StandardCharsets.UTF_8);
+        int best = -1;
+        for (int i = lowerBound(key); i < count && keyLength(i) == key.length && keyStartsWith(i, key); i++) {
+            if (best < 0 || population(i) > population(best)) {
+                best = i;
+            }
+        }
+        return best < 0 ? Optional.empty() : Optional.of(cityAt(best));
+    }
+
+    /**
+     * Normalizes a name for indexing and lookup: accents removed, lower case, single spaces.
+     */
+    static String normalize(String name) {
+        String decomposed = Normalizer.normalize(name.strip(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("")
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("\\s+", " ");
+    }
+
+    private int lowerBound(byte[] key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareKey(mid, key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compareKey(int index, byte[] key) {
+        int start = keysStart + keyOffset(index);
+        int length = keyLength(index);
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int diff = Byte.toUnsignedInt(buffer.get(start + i)) - Byte.toUnsignedInt(key[i]);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - key.length;
+    }
+
+    private boolean keyStartsWith(int index, byte[] prefix) {
+        if (keyLength(index) < prefix.length) {
+            return false;
+        }
+        int start = keysStart + keyOffset(index);
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(start + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int keyOffset(int index) {
+        return buffer.getInt(keyOffsetsStart + index * Integer.BYTES);
+    }
+
+    private int keyLength(int index) {
+        return buffer.getInt(keyOffsetsStart + (index + 1) * Integer.BYTES) - keyOffset(index);
+    }
+
+    private int population(int index) {
+        return buffer.getInt(populationsStart + index * Integer.BYTES);
+    }
+
+    private City cityAt(int index) {
+        int nameOffset = buffer.getInt(nameOffsetsStart + index * Integer.BYTES);
+        int nameEnd = buffer.getInt(nameOffsetsStart + (index + 1) * Integer.BYTES);
+        byte[] name = new byte[nameEnd - nameOffset];
+        buffer.get(namesStart + nameOffset, name);
+
+        byte[] countryCode = new byte[2];
+        buffer.get(countryCodesStart + index * 2, countryCode);
+
+        return new City(
+            new String(name, StandardCharsets.UTF_8),
+            new String(countryCode, StandardCharsets.US_ASCII).strip(),
+            buffer.getInt(latitudesStart + index * Integer.BYTES) / COORDINATE_SCALE,
+            buffer.getInt(longitudesStart + index * Integer.BYTES) / COORDINATE_SCALE,
+            population(index)
+        );
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.hexagonal.weather.adapter.gazetteer.index;
+
+import io.github.hexagonal.weather.model.City;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Builds a binary {@link CityIndex} file from a GeoNames cities dump
+ * (e.g. {@code cities500.txt} from https://download.geonames.org/export/dump/).
+ * <p>
+ * Runs at build time to index the bundled sample, and can be run by hand to index a full dump:
+ * <pre>
+ * java -cp adapter-gazetteer.jar:model.jar \
+ *   io.github.hexagonal.weather.adapter.gazetteer.index.CityIndexWriter cities500.txt cities.idx
+ * </pre>
+ */
+public final class CityIndexWriter {
+
+    // GeoNames tab-separated columns
+    private static final int NAME = 1;
+    private static final int LATITUDE = 4;
+    private static final int LONGITUDE = 5;
+    private static final int COUNTRY_CODE = 8;
+    private static final int POPULATION = 14;
+
+    private CityIndexWriter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CityIndexWriter <geonames-cities.txt> <output.idx>");
+            System.exit(1);
+        }
+
+        Path source = Path.of(args[0]);
+        Path target = Path.of(args[1]);
+
+        List<City> cities = readGeoNames(source);
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Files.write(target, toBytes(cities));
+
+        System.out.printf("Indexed %d cities from %s into %s%n", cities.size(), source, target);
+    }
+
+    /**
+     * Reads cities from a GeoNames tab-separated dump.
+     */
+    public static List<City> readGeoNames(Path source) throws IOException {
+        List<City> cities = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                cities.add(new City(
+                    columns[NAME],
+                    columns[COUNTRY_CODE],
+                    Double.parseDouble(columns[LATITUDE]),
+                    Double.parseDouble(columns[LONGITUDE]),
+                    columns[POPULATION].isEmpty() ? 0 : Long.parseLong(columns[POPULATION])
+                ));
+            }
+        }
+        return cities;
+    }
+
+    /**
+     * Serializes cities into the binary index layout described in {@link CityIndex}.
+     */
+    public static byte[] toBytes(List<City> cities) {
+        List<Entry> entries = cities.stream()
+            .map(city -> new Entry(CityIndex.normalize(city.name()).getBytes(StandardCharsets.UTF_8), city))
+            .sorted(Comparator.<Entry, byte[]>comparing(Entry::key, Arrays::compareUnsigned)
+                .thenComparing(entry -> -entry.city().population()))
+            .toList();
+
+        ByteArrayOutputStream keys = new ByteArrayOutputStream();
+        ByteArrayOutputStream names = new ByteArrayOutputStream();
+        int count = entries.size();
+        int[] keyOffsets = new int[count + 1];
+        int[] nameOffsets = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            keys.writeBytes(entries.get(i).key());
+            names.writeBytes(entries.get(i).city().name().getBytes(StandardCharsets.UTF_8));
+            keyOffsets[i + 1] = keys.size();
+            nameOffsets[i + 1] = names.size();
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(CityIndex.MAGIC);
+            out.writeInt(count);
+            out.writeInt(keys.size());
+            out.writeInt(names.size());
+            for (int offset : keyOffsets) {
+                out.writeInt(offset);
+            }
+            for (int offset : nameOffsets) {
+                out.writeInt(offset);
+            }
+            for (Entry entry : entries) {
+                out.writeInt((int) Math.round(entry.city().latitude() * CityIndex.COORDINATE_SCALE));
+            }
+            for (Entry entry : entries) {
+                out.writeInt((int) Math.round(entry.city().longitude() * CityIndex.COORDINATE_SCALE));
+            }
+            for (Entry entry : entries) {
+                out.writeInt((int) Math.min(entry.city().population(), Integer.MAX_VALUE));
+            }
+            for (Entry entry : entries) {
+                out.write(countryCode(entry.city()));
+            }
+            keys.writeTo(out);
+            names.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] countryCode(City city) {
+        String code = city.countryCode() == null ? "" : city.countryCode();
+        return (code + "  ").substring(0, 2).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record Entry(byte[] key, City city) {}
+}
@@ -0,0 +1,80 @@
+package io.github.hexagonal.weather.adapter.gazetteer.index;
+
+import io.github.hexagonal.weather.model.City;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the binary city index.
+ */
+class CityIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private CityIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = tempDir.resolve("cities.idx");
+        Files.write(file, CityIndexWriter.toBytes(List.of(
+            new City("Ghent", "BE", 51.05, 3.71667, 231493),
+            new City("Ghent", "US", 42.33036, -73.61595, 5402),
+            new City("Geel", "BE", 51.16557, 4.98917, 38621),
+            new City("Liège", "BE", 50.63373, 5.56749, 182597),
+            new City("Gembloux", "BE", 50.56149, 4.69889, 25389),
+            new City("Brussels", "BE", 50.85045, 4.34878, 1019022)
+        )));
+        index = CityIndex.open(file);
+    }
+
+    @Test
+    void shouldFindMostPopulousCityByName() {
+        // When
+        City ghent = index.findByName("ghent").orElseThrow();
+
+        // Then
+        assertEquals("Ghent", ghent.name());
+        assertEquals("BE", ghent.countryCode());
+        assertEquals(51.05, ghent.latitude());
+        assertEquals(3.71667, ghent.longitude());
+    }
+
+    @Test
+    void shouldMatchNamesWithoutAccents() {
+        // Then
+        assertEquals("Liège", index.findByName("LIEGE").orElseThrow().name());
+        assertEquals(1, index.findByPrefix("liè", 10).size());
+    }
+
+    @Test
+    void shouldListCitiesByPrefixInAlphabeticalOrder() {
+        // When
+        List<City> cities = index.findByPrefix("Ge", 10);
+
+        // Then
+        assertEquals(List.of("Geel", "Gembloux"), cities.stream().map(City::name).toList());
+    }
+
+    @Test
+    void shouldRespectLimit() {
+        // Then
+        assertEquals(2, index.findByPrefix("g", 2).size());
+    }
+
+    @Test
+    void shouldNotFindUnknownCity() {
+        // Then
+        assertTrue(index.findByName("Gent").isEmpty());
+        assertTrue(index.findByPrefix("zz", 10).isEmpty());
+        assertTrue(CityIndex.empty().findByName("Ghent").isEmpty());
+    }
+}
@@ -1,55 +1,249 @@
 package io.github.hexagonal.weather.adapter.openmeteo;
 
 import io.github.hexagonal.weather.adapter.openmeteo.client.OpenMeteoClient;
+import io.github.hexagonal.weather.adapter.openmeteo.client.OpenMeteoVariables;
+import io.github.hexagonal.weather.adapter.openmeteo.config.OpenMeteoConfig;
 import io.github.hexagonal.weather.adapter.openmeteo.dto.OpenMeteoResponse;
+import io.github.hexagonal.weather.adapter.openmeteo.failure.FailureLog;
+import io.github.hexagonal.weather.adapter.openmeteo.failure.NegativeCache;
 import io.github.hexagonal.weather.adapter.openmeteo.mapper.OpenMeteoMapper;
+import io.github.hexagonal.weather.adapter.openmeteo.profiling.UpstreamFetchEvent;
+import io.github.hexagonal.weather.adapter.openmeteo.scheduling.FairQueue;
 import io.github.hexagonal.weather.application.port.out.WeatherProvider;
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.DeadlineExceededException;
+import io.github.hexagonal.weather.model.GridCell;
 import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Measurement;
+import io.github.hexagonal.weather.model.RequestCancelledException;
 import io.github.hexagonal.weather.model.Weather;
 import io.github.hexagonal.weather.model.WeatherNotFoundException;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
 import lombok.extern.jbosslog.JBossLog;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Outgoing adapter that implements WeatherProvider using the Open-Meteo API.
  * This adapter translates between the application's domain model and the external API.
+ * Only the optional variables a lookup needs are requested from Open-Meteo.
+ * Upstream calls are bounded by the request deadline and aborted when the request is cancelled.
+ * Grid cells for which Open-Meteo keeps failing are skipped for a while (negative cache), and
+ * those lookups fail fast with a preallocated exception.
+ * Concurrent upstream calls are limited, and the slots are shared between clients by weight ({@link FairQueue}).
+ * Every upstream call is recorded as an {@link UpstreamFetchEvent} for Flight Recorder.
  */
 @ApplicationScoped
 @JBossLog
-public class OpenMeteoAdapter implements WeatherProvider {
+public class OpenMeteoAdapter implements WeatherProvider, AutoCloseable {
+
+    private static final WeatherNotFoundException KNOWN_FAILING = WeatherNotFoundException.withoutStackTrace(
+        "Weather data recently unavailable for this location, not retrying yet", null);
+    private static final double EVENT_BUCKET_SIZE = 1.0;
 
     private final OpenMeteoClient client;
     private final OpenMeteoMapper mapper;
+    private final NegativeCache negativeCache;
+    private final FailureLog failureLog;
+    private final FairQueue fairQueue;
+    private final Counter expiredCalls;
+    private final Counter cancelledCalls;
+    private final Counter shortCircuitedCalls;
+    private final Logger.Level callLogLevel;
 
     @Inject
-    public OpenMeteoAdapter(@RestClient OpenMeteoClient client, OpenMeteoMapper mapper) {
+    public OpenMeteoAdapter(@RestClient OpenMeteoClient client, OpenMeteoMapper mapper, MeterRegistry registry,
+                            OpenMeteoConfig config) {
+        this(client, mapper, registry, config, Logger.Level.INFO);
+    }
+
+    /**
+     * @param callLogLevel Level of the per-call log lines, e.g. {@code DEBUG} for an adapter that
+     *                     does not call Open-Meteo itself
+     */
+    public OpenMeteoAdapter(OpenMeteoClient client, OpenMeteoMapper mapper, MeterRegistry registry,
+                            OpenMeteoConfig config, Logger.Level callLogLevel) {
+        this(
+            client,
+            mapper,
+            registry,
+            new NegativeCache(
+                config.negativeCache().enabled(),
+                config.negativeCache().cellSize(),
+                config.negativeCache().initialBackoff(),
+                config.negativeCache().maxBackoff(),
+                config.negativeCache().maxEntries()
+            ),
+            new FailureLog(log, config.errorLogInterval()),
+            new FairQueue(
+                config.fairQueue().enabled(),
+                config.fairQueue().slots(),
+                config.fairQueue().defaultWeight(),
+                config.fairQueue().weights(),
+                registry
+            ),
+            callLogLevel
+        );
+    }
+
+    public OpenMeteoAdapter(OpenMeteoClient client, OpenMeteoMapper mapper, MeterRegistry registry,
+                            NegativeCache negativeCache, FailureLog failureLog, FairQueue fairQueue) {
+        this(client, mapper, registry, negativeCache, failureLog, fairQueue, Logger.Level.INFO);
+    }
+
+    private OpenMeteoAdapter(OpenMeteoClient client, OpenMeteoMapper mapper, MeterRegistry registry,
+                             NegativeCache negativeCache, FailureLog failureLog, FairQueue fairQueue,
+                             Logger.Level callLogLevel) {
         this.client = client;
         this.mapper = mapper;
+        this.negativeCache = negativeCache;
+        this.failureLog = failureLog;
+        this.fairQueue = fairQueue;
+        this.expiredCalls = registry.counter("weather.upstream.aborted", "reason", "expired");
+        this.cancelledCalls = registry.counter("weather.upstream.aborted", "reason", "cancelled");
+        this.shortCircuitedCalls = registry.counter("weather.upstream.short_circuited");
+        this.callLogLevel = callLogLevel;
     }
 
+    /**
+     * Stops the failure log's scheduled summary.
+     */
+    @PreDestroy
     @Override
-    public Weather fetchWeather(Location location) {
+    public void close() {
+        failureLog.close();
+    }
+
+    @Override
+    public Weather fetchWeather(WeatherQuery query) {
+        Deadline deadline = query.deadline();
+        deadline.check();
+        if (!negativeCache.tryAcquire(query.location())) {
+            shortCircuitedCalls.increment();
+            throw KNOWN_FAILING;
+        }
+
+        fairQueue.acquire(query.client(), deadline);
+        try {
+            return call(query.location(), query.measurements(), deadline);
+        } finally {
+            fairQueue.release();
+        }
+    }
+
+    private Weather call(Location location, Set<Measurement> measurements, Deadline deadline) {
+        String variables = OpenMeteoVariables.of(measurements);
+        UpstreamFetchEvent event = new UpstreamFetchEvent();
+        event.begin();
         try {
-            log.infof("Fetching weather from Open-Meteo API for: lat=%f, lon=%f",
-                location.latitude(), location.longitude());
+            log.logf(callLogLevel, "Fetching weather from Open-Meteo API for: lat=%f, lon=%f, variables=%s",
+                location.latitude(), location.longitude(), variables);
 
-            OpenMeteoResponse response = client.getCurrentWeather(
+            RestResponse<OpenMeteoResponse> response = await(client.getCurrentWeather(
                 location.latitude(),
                 location.longitude(),
-                "temperature_2m,weather_code"
-            );
+                variables
+            ), deadline);
+            event.end();
+            event.status = response.getStatus();
+            event.bytes = response.getLength();
+            event.outcome = "OK";
 
-            Weather weather = mapper.toDomain(response, location);
+            Weather weather = mapper.toDomain(response.getEntity(), location);
+            negativeCache.recordSuccess(location);
 
-            log.infof("Successfully fetched weather: %s at %s°C",
+            log.logf(callLogLevel, "Successfully fetched weather: %s at %s°C",
                 weather.condition(), weather.temperature());
 
             return weather;
+        } catch (DeadlineExceededException e) {
+            event.outcome = "EXPIRED";
+            expiredCalls.increment();
+            log.warnf("Open-Meteo call for %s exceeded the request deadline", location);
+            throw e;
+        } catch (RequestCancelledException e) {
+            event.outcome = "CANCELLED";
+            cancelledCalls.increment();
+            log.debugf("Open-Meteo call for %s cancelled by client", location);
+            throw e;
         } catch (Exception e) {
-            log.errorf(e, "Failed to fetch weather for location: %s", location);
-            throw new WeatherNotFoundException("Unable to fetch weather data", e);
+            event.status = status(e);
+            event.outcome = "FAILED";
+            negativeCache.recordFailure(location);
+            failureLog.failed(location, e);
+            throw WeatherNotFoundException.withoutStackTrace("Unable to fetch weather data", e);
+        } finally {
+            commit(event, location, variables);
+        }
+    }
+
+    private static void commit(UpstreamFetchEvent event, Location location, String variables) {
+        if (event.shouldCommit()) {
+            GridCell bucket = GridCell.of(location, EVENT_BUCKET_SIZE);
+            event.latitudeBucket = bucket.latitudeIndex();
+            event.longitudeBucket = bucket.longitudeIndex();
+            event.variables = variables;
+            event.commit();
+        }
+    }
+
+    private static int status(Exception e) {
+        if (e instanceof WebApplicationException webException && webException.getResponse() != null) {
+            return webException.getResponse().getStatus();
+        }
+        return UpstreamFetchEvent.NO_RESPONSE;
+    }
+
+    /**
+     * Waits for an upstream call, using the remaining budget as its timeout and
+     * cancelling it (which aborts the HTTP request) when the client goes away.
+     */
+    private static <T> T await(Uni<T> call, Deadline deadline) throws Exception {
+        if (deadline.isBounded()) {
+            Duration remaining = deadline.remaining();
+            if (remaining.isZero()) {
+                throw new DeadlineExceededException("Request deadline exceeded before calling Open-Meteo");
+            }
+            call = call.ifNoItem().after(remaining)
+                .failWith(() -> new DeadlineExceededException("Open-Meteo did not answer within the request deadline"));
+        }
+
+        // Cancelling a future from subscribeAsCompletionStage() would not cancel the subscription itself
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Cancellable subscription = call.subscribe().with(future::complete, future::completeExceptionally);
+        deadline.onCancel(() -> {
+            subscription.cancel();
+            future.cancel(true);
+        });
+
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            throw new RequestCancelledException("Request cancelled while waiting for Open-Meteo");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            subscription.cancel();
+            throw new RequestCancelledException("Interrupted while waiting for Open-Meteo");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,14 @@
 package io.github.hexagonal.weather.adapter.openmeteo.client;
 
 import io.github.hexagonal.weather.adapter.openmeteo.dto.OpenMeteoResponse;
+import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.jboss.resteasy.reactive.RestResponse;
 
 /**
  * REST client for the Open-Meteo API.
@@ -19,14 +21,16 @@ public interface OpenMeteoClient {
 
     /**
      * Get current weather for a location.
+     * The call is non-blocking; cancelling the subscription aborts the HTTP request.
+     * Error statuses fail the call with a {@link jakarta.ws.rs.WebApplicationException}.
      *
      * @param latitude  Latitude coordinate
      * @param longitude Longitude coordinate
      * @param current   Comma-separated list of weather variables
-     * @return Weather data
+     * @return Weather data, with the response status and headers
      */
     @GET
-    OpenMeteoResponse getCurrentWeather(
+    Uni<RestResponse<OpenMeteoResponse>> getCurrentWeather(
         @QueryParam("latitude") double latitude,
         @QueryParam("longitude") double longitude,
         @QueryParam("current") String current
@@ -0,0 +1,50 @@
+package io.github.hexagonal.weather.adapter.openmeteo.client;
+
+import io.github.hexagonal.weather.model.Measurement;
+
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Names of the Open-Meteo "current" variables.
+ * Temperature and weather code are always requested; optional measurements are added on demand.
+ */
+public final class OpenMeteoVariables {
+
+    private static final String REQUIRED = "temperature_2m,weather_code";
+
+    private OpenMeteoVariables() {
+    }
+
+    /**
+     * Builds the {@code current} query parameter for the given measurements.
+     */
+    public static String of(Set<Measurement> measurements) {
+        if (measurements.isEmpty()) {
+            return REQUIRED;
+        }
+        StringJoiner variables = new StringJoiner(",");
+        variables.add(REQUIRED);
+        // Iterate in declaration order so equal sets give equal query strings
+        for (Measurement measurement : Measurement.values()) {
+            if (measurements.contains(measurement)) {
+                variables.add(variable(measurement));
+            }
+        }
+        return variables.toString();
+    }
+
+    /**
+     * Returns the Open-Meteo variable carrying the given measurement.
+     */
+    public static String variable(Measurement measurement) {
+        return switch (measurement) {
+            case RELATIVE_HUMIDITY -> "relative_humidity_2m";
+            case APPARENT_TEMPERATURE -> "apparent_temperature";
+            case WIND_SPEED -> "wind_speed_10m";
+            case WIND_DIRECTION -> "wind_direction_10m";
+            case PRECIPITATION -> "precipitation";
+            case CLOUD_COVER -> "cloud_cover";
+        };
+    }
+}
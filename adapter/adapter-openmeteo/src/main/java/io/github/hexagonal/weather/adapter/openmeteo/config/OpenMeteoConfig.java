@@ -0,0 +1,80 @@
+package io.github.hexagonal.weather.adapter.openmeteo.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration for the Open-Meteo adapter (weather.open-meteo.*).
+ */
+@ConfigMapping(prefix = "weather.open-meteo")
+public interface OpenMeteoConfig {
+
+    /**
+     * Remembering grid cells for which Open-Meteo recently failed.
+     */
+    NegativeCache negativeCache();
+
+    /**
+     * Interval over which upstream failures are aggregated into a single log line.
+     */
+    @WithDefault("10s")
+    Duration errorLogInterval();
+
+    /**
+     * Sharing the concurrent upstream calls between clients.
+     */
+    FairQueue fairQueue();
+
+    interface NegativeCache {
+
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Grid cell edge length in degrees.
+         */
+        @WithDefault("0.1")
+        double cellSize();
+
+        /**
+         * How long a cell is skipped after its first failure; doubles with every further failure.
+         */
+        @WithDefault("5s")
+        Duration initialBackoff();
+
+        @WithDefault("5m")
+        Duration maxBackoff();
+
+        /**
+         * Maximum number of failing cells remembered.
+         */
+        @WithDefault("10000")
+        int maxEntries();
+    }
+
+    interface FairQueue {
+
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Number of concurrent calls to Open-Meteo; further calls wait in their client's queue.
+         */
+        @WithDefault("32")
+        int slots();
+
+        /**
+         * Weight of clients without a configured weight.
+         */
+        @WithDefault("1")
+        int defaultWeight();
+
+        /**
+         * Weights by client name: a client gets slots in proportion to its weight while it has calls waiting.
+         */
+        Map<String, Integer> weights();
+    }
+}
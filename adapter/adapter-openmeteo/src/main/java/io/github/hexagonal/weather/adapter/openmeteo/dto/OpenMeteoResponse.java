@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * DTO representing the Open-Meteo API response.
+ * Optional variables are only present when they were requested.
  */
 public record OpenMeteoResponse(
     @JsonProperty("latitude") double latitude,
@@ -13,6 +14,12 @@ public record OpenMeteoResponse(
     public record CurrentWeather(
         @JsonProperty("time") String time,
         @JsonProperty("temperature_2m") double temperature,
-        @JsonProperty("weather_code") int weatherCode
+        @JsonProperty("weather_code") int weatherCode,
+        @JsonProperty("relative_humidity_2m") Double relativeHumidity,
+        @JsonProperty("apparent_temperature") Double apparentTemperature,
+        @JsonProperty("wind_speed_10m") Double windSpeed,
+        @JsonProperty("wind_direction_10m") Double windDirection,
+        @JsonProperty("precipitation") Double precipitation,
+        @JsonProperty("cloud_cover") Double cloudCover
     ) {}
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package io.github.hexagonal.weather.adapter.openmeteo.failure;
+
+import jakarta.ws.rs.WebApplicationException;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate-limited error log for upstream failures.
+ * The first failure of every interval is logged with its stack trace; the others are only
+ * counted per reason, and reported as one summary line when the interval ends.
+ * The summary is written by a scheduler thread of this log, started on the first suppressed failure;
+ * {@link #close()} stops it.
+ */
+public class FailureLog implements AutoCloseable {
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final AtomicLong windowStartNanos;
+    private final Map<String, LongAdder> suppressed = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private ScheduledExecutorService flusher;
+    private boolean closed;
+
+    public FailureLog(Logger logger, Duration interval) {
+        this.logger = logger;
+        this.intervalNanos = interval.toNanos();
+        this.windowStartNanos = new AtomicLong(System.nanoTime() - intervalNanos);
+    }
+
+    /**
+     * Reports a failed upstream call.
+     *
+     * @param target What was being fetched, for the log message
+     * @param cause  The failure
+     */
+    public void failed(Object target, Throwable cause) {
+        long now = System.nanoTime();
+        long windowStart = windowStartNanos.get();
+        if (now - windowStart >= intervalNanos && windowStartNanos.compareAndSet(windowStart, now)) {
+            logSuppressed();
+            logger.errorf(cause, "Failed to fetch weather for location: %s", target);
+        } else {
+            suppressed.computeIfAbsent(reason(cause), reason -> new LongAdder()).increment();
+            if (flushScheduled.compareAndSet(false, true)) {
+                scheduleFlush(windowStart + intervalNanos - now);
+            }
+        }
+    }
+
+    /**
+     * Stops the scheduler, reporting the failures suppressed so far.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        logSuppressed();
+    }
+
+    private synchronized void scheduleFlush(long delayNanos) {
+        if (closed) {
+            return;
+        }
+        if (flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("failure-log-flush").daemon().factory());
+        }
+        flusher.schedule(this::flush, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Reports the failures suppressed so far, without waiting for the next failure to be logged.
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        logSuppressed();
+    }
+
+    private void logSuppressed() {
+        long total = 0;
+        StringJoiner reasons = new StringJoiner(", ");
+        for (Map.Entry<String, LongAdder> entry : suppressed.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                total += count;
+                reasons.add(entry.getKey() + " x" + count);
+            }
+        }
+        if (total > 0) {
+            logger.errorf("%d more upstream failures since the last report: %s", total, reasons);
+        }
+    }
+
+    private static String reason(Throwable cause) {
+        if (cause instanceof WebApplicationException e && e.getResponse() != null) {
+            return "HTTP " + e.getResponse().getStatus();
+        }
+        return cause.getClass().getSimpleName();
+    }
+}
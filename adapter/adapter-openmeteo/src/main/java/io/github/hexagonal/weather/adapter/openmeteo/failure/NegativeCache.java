@@ -0,0 +1,127 @@
+package io.github.hexagonal.weather.adapter.openmeteo.failure;
+
+import io.github.hexagonal.weather.model.GridCell;
+import io.github.hexagonal.weather.model.Location;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Remembers grid cells for which the upstream call recently failed, so that further lookups
+ * can fail fast instead of repeating the call. A cell is skipped for a backoff period that
+ * doubles with every consecutive failure; once it has passed, a single lookup is let through
+ * as a probe while the others keep failing fast. A success forgets the cell. Cells are kept in the
+ * order of their last failure, so when the cache is full the cell that failed longest ago is dropped
+ * to make room, in constant time.
+ */
+public class NegativeCache {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<GridCell, Entry> entries = new LinkedHashMap<>();
+    private volatile int size;
+    private final boolean enabled;
+    private final double cellSize;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final int maxEntries;
+
+    public NegativeCache(boolean enabled, double cellSize, Duration initialBackoff, Duration maxBackoff,
+                         int maxEntries) {
+        this.enabled = enabled;
+        this.cellSize = cellSize;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns whether a lookup for the location may call upstream.
+     * False while the location's cell is backing off or another lookup is probing it.
+     */
+    public boolean tryAcquire(Location location) {
+        if (!enabled || size == 0) {
+            return true;
+        }
+
+        GridCell cell = GridCell.of(location, cellSize);
+        lock.lock();
+        try {
+            Entry entry = entries.get(cell);
+            if (entry == null) {
+                return true;
+            }
+
+            long now = System.nanoTime();
+            if (now - entry.retryAtNanos() < 0) {
+                return false;
+            }
+            // Backoff has passed: this lookup probes, the others wait another period
+            entries.replace(cell, new Entry(entry.failures(), now + backoffNanos(entry.failures())));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a failed upstream call for the location.
+     *
+     * @return The backoff period now applied to the location's cell
+     */
+    public Duration recordFailure(Location location) {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+
+        GridCell cell = GridCell.of(location, cellSize);
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            // Removing and putting again moves the cell to the end of the failure order
+            Entry previous = entries.remove(cell);
+            Entry entry = previous != null
+                ? new Entry(previous.failures() + 1, now + backoffNanos(previous.failures() + 1))
+                : new Entry(1, now + initialBackoffNanos);
+            entries.put(cell, entry);
+            Iterator<Entry> oldest = entries.values().iterator();
+            while (entries.size() > maxEntries) {
+                oldest.next();
+                oldest.remove();
+            }
+            size = entries.size();
+            return Duration.ofNanos(entry.retryAtNanos() - now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a successful upstream call, forgetting any earlier failures of the location's cell.
+     */
+    public void recordSuccess(Location location) {
+        if (!enabled || size == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.remove(GridCell.of(location, cellSize));
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private long backoffNanos(int failures) {
+        int doublings = Math.min(failures - 1, 30);
+        long backoff = initialBackoffNanos << doublings;
+        return backoff <= 0 || backoff > maxBackoffNanos ? maxBackoffNanos : backoff;
+    }
+
+    private record Entry(int failures, long retryAtNanos) {}
+}
@@ -2,6 +2,7 @@ package io.github.hexagonal.weather.adapter.openmeteo.mapper;
 
 import io.github.hexagonal.weather.adapter.openmeteo.dto.OpenMeteoResponse;
 import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Measurement;
 import io.github.hexagonal.weather.model.Weather;
 import io.github.hexagonal.weather.model.WeatherCondition;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -10,6 +11,8 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Mapper for converting Open-Meteo API responses to domain models.
@@ -39,7 +42,25 @@ public class OpenMeteoMapper {
             location,
             response.current().temperature(),
             condition,
-            timestamp
+            timestamp,
+            toMeasurements(response.current())
         );
     }
+
+    private static Map<Measurement, Double> toMeasurements(OpenMeteoResponse.CurrentWeather current) {
+        Map<Measurement, Double> measurements = new EnumMap<>(Measurement.class);
+        putIfPresent(measurements, Measurement.RELATIVE_HUMIDITY, current.relativeHumidity());
+        putIfPresent(measurements, Measurement.APPARENT_TEMPERATURE, current.apparentTemperature());
+        putIfPresent(measurements, Measurement.WIND_SPEED, current.windSpeed());
+        putIfPresent(measurements, Measurement.WIND_DIRECTION, current.windDirection());
+        putIfPresent(measurements, Measurement.PRECIPITATION, current.precipitation());
+        putIfPresent(measurements, Measurement.CLOUD_COVER, current.cloudCover());
+        return measurements;
+    }
+
+    private static void putIfPresent(Map<Measurement, Double> measurements, Measurement measurement, Double value) {
+        if (value != null) {
+            measurements.put(measurement, value);
+        }
+    }
 }
\ No newline at end of file
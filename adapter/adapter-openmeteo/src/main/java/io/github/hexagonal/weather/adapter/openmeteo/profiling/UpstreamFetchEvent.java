@@ -0,0 +1,44 @@
+package io.github.hexagonal.weather.adapter.openmeteo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one Open-Meteo call, from sending the request to the parsed response.
+ * Coordinates are reduced to a one-degree bucket so events can be grouped by region.
+ */
+@Name("io.github.hexagonal.weather.UpstreamFetch")
+@Label("Upstream Fetch")
+@Description("Call to the Open-Meteo API")
+@Category({"Weather Service", "Stages"})
+@StackTrace(false)
+public class UpstreamFetchEvent extends Event {
+
+    public static final int NO_RESPONSE = 0;
+
+    @Label("Latitude Bucket")
+    public int latitudeBucket;
+
+    @Label("Longitude Bucket")
+    public int longitudeBucket;
+
+    @Label("Variables")
+    public String variables;
+
+    @Label("Status")
+    @Description("HTTP status, or 0 when no response was received")
+    public int status;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Response Size")
+    @Description("Content length of the response, or -1 if unknown")
+    @DataAmount
+    public long bytes = -1;
+}
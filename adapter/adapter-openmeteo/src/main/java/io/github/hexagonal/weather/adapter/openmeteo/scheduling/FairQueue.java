@@ -0,0 +1,234 @@
+package io.github.hexagonal.weather.adapter.openmeteo.scheduling;
+
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.DeadlineExceededException;
+import io.github.hexagonal.weather.model.RequestCancelledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Divides a fixed number of concurrent upstream call slots between clients by weight,
+ * using deficit round robin.
+ * <p>
+ * While a slot is free and nobody is waiting, calls go through immediately. Otherwise each client
+ * waits in its own FIFO queue, and freed slots are handed to the queues in turn: a client with
+ * weight {@code w} gets {@code w} slots per round while it has calls waiting. A client that sends
+ * many calls therefore only lengthens its own queue, and cannot starve the others.
+ * <p>
+ * Per client, the queue depth, the time spent waiting for a slot and the number of calls let
+ * through are published as metrics.
+ */
+public class FairQueue {
+
+    private final boolean enabled;
+    private final int defaultWeight;
+    private final Map<String, Integer> weights;
+    private final MeterRegistry registry;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<ClientId, ClientQueue> queues = new HashMap<>();
+    private final Deque<ClientQueue> active = new ArrayDeque<>();
+    private int freeSlots;
+
+    /**
+     * @param enabled       Whether to limit concurrent calls; if not, calls are only counted
+     * @param slots         Number of concurrent upstream calls
+     * @param defaultWeight Weight of clients without a configured weight
+     * @param weights       Weights by client name
+     */
+    public FairQueue(boolean enabled, int slots, int defaultWeight, Map<String, Integer> weights,
+                     MeterRegistry registry) {
+        if (slots < 1 || defaultWeight < 1 || weights.values().stream().anyMatch(weight -> weight < 1)) {
+            throw new IllegalArgumentException("Upstream slots and client weights must be at least 1");
+        }
+        this.enabled = enabled;
+        this.freeSlots = slots;
+        this.defaultWeight = defaultWeight;
+        this.weights = Map.copyOf(weights);
+        this.registry = registry;
+    }
+
+    /**
+     * Waits for an upstream call slot for the client.
+     * Every successful call must be paired with a call to {@link #release()}.
+     *
+     * @throws DeadlineExceededException  if the deadline passes before a slot is free
+     * @throws RequestCancelledException if the request is cancelled while waiting
+     */
+    public void acquire(ClientId client, Deadline deadline) {
+        long started = System.nanoTime();
+        Waiter waiter;
+
+        lock.lock();
+        try {
+            ClientQueue queue = queueFor(client);
+            if (!enabled || (freeSlots > 0 && active.isEmpty())) {
+                if (enabled) {
+                    freeSlots--;
+                }
+                queue.granted(System.nanoTime() - started);
+                return;
+            }
+            waiter = new Waiter(queue, started);
+            queue.waiters.add(waiter);
+            if (queue.waiters.size() == 1) {
+                active.addLast(queue);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        deadline.onCancel(() -> waiter.slot.cancel(false));
+        try {
+            if (deadline.isBounded()) {
+                waiter.slot.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+            } else {
+                waiter.slot.get();
+            }
+        } catch (TimeoutException e) {
+            abandon(waiter);
+            throw new DeadlineExceededException("Request deadline exceeded waiting for an upstream slot");
+        } catch (CancellationException e) {
+            abandon(waiter);
+            throw new RequestCancelledException("Request cancelled while waiting for an upstream slot");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(waiter);
+            throw new RequestCancelledException("Interrupted while waiting for an upstream slot");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Upstream slot completed exceptionally", e.getCause());
+        }
+    }
+
+    /**
+     * Returns a slot taken with {@link #acquire(ClientId, Deadline)} and hands it to the next waiting client.
+     */
+    public void release() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            freeSlots++;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of calls the client currently has waiting for a slot.
+     */
+    public int queued(ClientId client) {
+        lock.lock();
+        try {
+            ClientQueue queue = queues.get(client);
+            return queue != null ? queue.waiters.size() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands free slots to waiting clients, deficit round robin with a quantum of one call per unit of weight.
+     */
+    private void dispatch() {
+        while (freeSlots > 0 && !active.isEmpty()) {
+            ClientQueue queue = active.peekFirst();
+            if (queue.deficit == 0) {
+                queue.deficit = queue.weight;
+            }
+
+            Waiter waiter = queue.waiters.pollFirst();
+            if (waiter.slot.complete(null)) {
+                freeSlots--;
+                queue.deficit--;
+                queue.granted(System.nanoTime() - waiter.queuedAt);
+            }
+
+            if (queue.waiters.isEmpty()) {
+                queue.deficit = 0;
+                active.pollFirst();
+            } else if (queue.deficit == 0) {
+                active.addLast(active.pollFirst());
+            }
+        }
+    }
+
+    /**
+     * Takes a waiter that gave up out of its queue, or returns its slot if it was granted in the meantime.
+     */
+    private void abandon(Waiter waiter) {
+        lock.lock();
+        try {
+            if (waiter.slot.cancel(false) || waiter.slot.isCancelled()) {
+                ClientQueue queue = waiter.queue;
+                if (queue.waiters.remove(waiter) && queue.waiters.isEmpty()) {
+                    queue.deficit = 0;
+                    active.remove(queue);
+                }
+                queue.abandoned.increment();
+            } else {
+                freeSlots++;
+                dispatch();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ClientQueue queueFor(ClientId client) {
+        return queues.computeIfAbsent(client,
+            key -> new ClientQueue(key, weights.getOrDefault(key.name(), defaultWeight)));
+    }
+
+    private final class ClientQueue {
+        final int weight;
+        final Deque<Waiter> waiters = new ArrayDeque<>();
+        final Timer wait;
+        final Counter calls;
+        final Counter abandoned;
+        int deficit;
+
+        ClientQueue(ClientId client, int weight) {
+            this.weight = weight;
+            String name = client.name();
+            Gauge.builder("weather.upstream.queue.depth", () -> queued(client))
+                .tag("client", name)
+                .register(registry);
+            this.wait = Timer.builder("weather.upstream.queue.wait").tag("client", name).register(registry);
+            this.calls = registry.counter("weather.upstream.calls", "client", name);
+            this.abandoned = registry.counter("weather.upstream.queue.abandoned", "client", name);
+        }
+
+        void granted(long waitedNanos) {
+            wait.record(Duration.ofNanos(waitedNanos));
+            calls.increment();
+        }
+    }
+
+    private static final class Waiter {
+        final ClientQueue queue;
+        final long queuedAt;
+        final CompletableFuture<Void> slot = new CompletableFuture<>();
+
+        Waiter(ClientQueue queue, long queuedAt) {
+            this.queue = queue;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
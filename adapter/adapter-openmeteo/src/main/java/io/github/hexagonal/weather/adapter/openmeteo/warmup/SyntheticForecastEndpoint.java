@@ -0,0 +1,43 @@
+package io.github.hexagonal.weather.adapter.openmeteo.warmup;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Stand-in for Open-Meteo's forecast API, called over loopback by {@link SyntheticUpstream}.
+ * Answers only requests carrying this instance's token, and only while the synthetic upstream is open.
+ */
+@Path(SyntheticUpstream.PATH_PREFIX + "{token}/v1/forecast")
+public class SyntheticForecastEndpoint {
+
+    private final SyntheticUpstream upstream;
+
+    @Inject
+    public SyntheticForecastEndpoint(SyntheticUpstream upstream) {
+        this.upstream = upstream;
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getCurrentWeather(
+        @PathParam("token") String token,
+        @QueryParam("latitude") double latitude,
+        @QueryParam("longitude") double longitude,
+        @QueryParam("current") String current
+    ) {
+        if (!upstream.accepts(token)) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        return Response.ok(SyntheticForecasts.generate(
+            latitude, longitude, current, LocalDateTime.now(ZoneOffset.UTC))).build();
+    }
+}
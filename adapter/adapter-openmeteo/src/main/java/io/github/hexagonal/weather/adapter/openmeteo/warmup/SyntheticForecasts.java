@@ -0,0 +1,61 @@
+package io.github.hexagonal.weather.adapter.openmeteo.warmup;
+
+import io.github.hexagonal.weather.adapter.openmeteo.client.OpenMeteoVariables;
+import io.github.hexagonal.weather.adapter.openmeteo.dto.OpenMeteoResponse;
+import io.github.hexagonal.weather.model.Measurement;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+/**
+ * Generates Open-Meteo responses locally.
+ * Values are derived from the coordinates, so different locations cover the whole range of
+ * weather codes, and only the requested optional variables are filled in, like the real API does.
+ */
+public final class SyntheticForecasts {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+    private static final int[] WEATHER_CODES = {0, 1, 2, 3, 45, 48, 51, 53, 55, 61, 63, 65, 71, 73, 75, 80, 95};
+
+    private SyntheticForecasts() {
+    }
+
+    /**
+     * Builds a forecast for the given coordinates.
+     *
+     * @param latitude  Latitude coordinate
+     * @param longitude Longitude coordinate
+     * @param current   Comma-separated list of requested variables, as sent to Open-Meteo
+     * @param now       Observation time, rounded down to a quarter of an hour like the real data
+     */
+    public static OpenMeteoResponse generate(double latitude, double longitude, String current, LocalDateTime now) {
+        Set<String> variables = current == null ? Set.of() : Set.of(current.split(","));
+        long seed = Double.doubleToLongBits(latitude) * 31 + Double.doubleToLongBits(longitude);
+        int variation = (int) ((seed ^ (seed >>> 29)) & 0x7fffffff);
+
+        double temperature = round(30 * Math.cos(Math.toRadians(latitude)) - 5 + variation % 100 / 10.0);
+        LocalDateTime time = now.truncatedTo(ChronoUnit.HOURS).plusMinutes(now.getMinute() / 15 * 15L);
+
+        return new OpenMeteoResponse(latitude, longitude, new OpenMeteoResponse.CurrentWeather(
+            time.format(FORMATTER),
+            temperature,
+            WEATHER_CODES[variation % WEATHER_CODES.length],
+            optional(variables, Measurement.RELATIVE_HUMIDITY, variation % 100),
+            optional(variables, Measurement.APPARENT_TEMPERATURE, round(temperature - variation % 40 / 10.0)),
+            optional(variables, Measurement.WIND_SPEED, round(variation % 600 / 10.0)),
+            optional(variables, Measurement.WIND_DIRECTION, variation % 360),
+            optional(variables, Measurement.PRECIPITATION, round(variation % 50 / 10.0)),
+            optional(variables, Measurement.CLOUD_COVER, variation % 101)
+        ));
+    }
+
+    private static Double optional(Set<String> variables, Measurement measurement, double value) {
+        return variables.contains(OpenMeteoVariables.variable(measurement)) ? value : null;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.hexagonal.weather.adapter.openmeteo.warmup;
+
+import io.github.hexagonal.weather.adapter.openmeteo.OpenMeteoAdapter;
+import io.github.hexagonal.weather.adapter.openmeteo.client.OpenMeteoClient;
+import io.github.hexagonal.weather.adapter.openmeteo.config.OpenMeteoConfig;
+import io.github.hexagonal.weather.adapter.openmeteo.mapper.OpenMeteoMapper;
+import io.github.hexagonal.weather.application.port.out.WeatherProvider;
+import io.github.hexagonal.weather.model.WeatherNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.jbosslog.JBossLog;
+import org.jboss.logging.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Open-Meteo stand-in for warming up the service before it takes traffic.
+ * <p>
+ * The provider is a regular {@link OpenMeteoAdapter} whose REST client calls this instance's
+ * {@link SyntheticForecastEndpoint} over loopback, so warm-up lookups run the same REST client,
+ * JSON and mapping code as real lookups without reaching Open-Meteo. The endpoint path contains
+ * a random token, so only this instance can use it, and the endpoint only answers until the
+ * provider's owner closes it at the end of the warm-up, which also releases the REST client and
+ * the adapter. Upstream metrics of warm-up lookups
+ * are kept out of the service's registry, and its calls are logged at {@code DEBUG}.
+ */
+@ApplicationScoped
+@JBossLog
+public class SyntheticUpstream {
+
+    static final String PATH_PREFIX = "/internal/warmup/";
+
+    private final String token = UUID.randomUUID().toString();
+    private final OpenMeteoMapper mapper;
+    private final OpenMeteoConfig config;
+    private OpenMeteoClient client;
+    private volatile OpenMeteoAdapter adapter;
+    private boolean closed;
+
+    @Inject
+    public SyntheticUpstream(OpenMeteoMapper mapper, OpenMeteoConfig config) {
+        this.mapper = mapper;
+        this.config = config;
+    }
+
+    boolean accepts(String token) {
+        return adapter != null && this.token.equals(token);
+    }
+
+    /**
+     * Creates a provider serving generated weather until {@link #close()} is called.
+     * Only call it once the HTTP server is listening.
+     *
+     * @param serverUri Base URI of this instance's HTTP server, as bound
+     */
+    public synchronized WeatherProvider provider(URI serverUri) {
+        if (!closed && adapter == null) {
+            URI baseUri = serverUri.resolve(PATH_PREFIX + token);
+            log.debugf("Synthetic upstream at %s", baseUri);
+            client = QuarkusRestClientBuilder.newBuilder()
+                .baseUri(baseUri)
+                .build(OpenMeteoClient.class);
+            adapter = new OpenMeteoAdapter(client, mapper, new SimpleMeterRegistry(), config, Logger.Level.DEBUG);
+        }
+        return query -> {
+            OpenMeteoAdapter current = adapter;
+            if (current == null) {
+                throw WeatherNotFoundException.withoutStackTrace(query.location());
+            }
+            return current.fetchWeather(query);
+        };
+    }
+
+    /**
+     * Stops answering synthetic lookups and closes the REST client and the adapter behind the provider.
+     */
+    public synchronized void close() {
+        closed = true;
+        OpenMeteoAdapter current = adapter;
+        if (current == null) {
+            return;
+        }
+        adapter = null;
+        current.close();
+        if (client instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                log.debugf("Unable to close the synthetic upstream client: %s", e.getMessage());
+            }
+        }
+        client = null;
+        log.debug("Synthetic upstream closed");
+    }
+}
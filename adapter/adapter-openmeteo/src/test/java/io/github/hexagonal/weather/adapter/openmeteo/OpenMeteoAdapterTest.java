@@ -0,0 +1,102 @@
+package io.github.hexagonal.weather.adapter.openmeteo;
+
+import io.github.hexagonal.weather.adapter.openmeteo.client.OpenMeteoClient;
+import io.github.hexagonal.weather.adapter.openmeteo.failure.FailureLog;
+import io.github.hexagonal.weather.adapter.openmeteo.failure.NegativeCache;
+import io.github.hexagonal.weather.adapter.openmeteo.mapper.OpenMeteoMapper;
+import io.github.hexagonal.weather.adapter.openmeteo.scheduling.FairQueue;
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.DeadlineExceededException;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.RequestCancelledException;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests how OpenMeteoAdapter bounds upstream calls by the request deadline, against an upstream that never answers.
+ */
+class OpenMeteoAdapterTest {
+
+    private final Location brussels = new Location(50.8503, 4.3517, "Brussels");
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final NegativeCache negativeCache =
+        new NegativeCache(true, 0.1, Duration.ofMinutes(1), Duration.ofMinutes(10), 100);
+    private final CountDownLatch subscribed = new CountDownLatch(1);
+    private final CompletableFuture<Void> aborted = new CompletableFuture<>();
+
+    private final OpenMeteoClient neverAnswering = (latitude, longitude, current) -> Uni.createFrom().emitter(emitter -> {
+        emitter.onTermination(() -> aborted.complete(null));
+        subscribed.countDown();
+    });
+
+    private final OpenMeteoAdapter adapter = new OpenMeteoAdapter(
+        neverAnswering,
+        new OpenMeteoMapper(),
+        registry,
+        negativeCache,
+        new FailureLog(Logger.getLogger(OpenMeteoAdapterTest.class), Duration.ofSeconds(10)),
+        new FairQueue(true, 1, 1, Map.of(), registry)
+    );
+
+    @Test
+    void shouldAbortUpstreamCallWhenDeadlineExpires() throws Exception {
+        // Given
+        WeatherQuery query = new WeatherQuery(brussels, Set.of(), Deadline.after(Duration.ofSeconds(1)),
+            ClientId.ANONYMOUS);
+
+        // When
+        assertThrows(DeadlineExceededException.class, () -> adapter.fetchWeather(query));
+
+        // Then
+        aborted.get(5, TimeUnit.SECONDS);
+        assertEquals(1, registry.get("weather.upstream.aborted").tag("reason", "expired").counter().count());
+        assertEquals(0, registry.get("weather.upstream.aborted").tag("reason", "cancelled").counter().count());
+        assertTrue(negativeCache.tryAcquire(brussels), "An expired call must not mark the cell as failing");
+    }
+
+    @Test
+    void shouldAbortUpstreamCallWhenRequestIsCancelled() throws Exception {
+        // Given
+        Deadline deadline = Deadline.none();
+        CompletableFuture<Void> lookup = CompletableFuture.runAsync(
+            () -> adapter.fetchWeather(new WeatherQuery(brussels, Set.of(), deadline, ClientId.ANONYMOUS)));
+        assertTrue(subscribed.await(5, TimeUnit.SECONDS));
+
+        // When
+        deadline.cancel();
+
+        // Then
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> lookup.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RequestCancelledException.class, failure.getCause());
+        aborted.get(5, TimeUnit.SECONDS);
+        assertEquals(1, registry.get("weather.upstream.aborted").tag("reason", "cancelled").counter().count());
+        assertEquals(0, registry.get("weather.upstream.aborted").tag("reason", "expired").counter().count());
+        assertTrue(negativeCache.tryAcquire(brussels), "A cancelled call must not mark the cell as failing");
+    }
+
+    @Test
+    void shouldNotCallUpstreamWhenDeadlineHasAlreadyPassed() {
+        // Given
+        WeatherQuery query = new WeatherQuery(brussels, Set.of(), Deadline.after(Duration.ZERO), ClientId.ANONYMOUS);
+
+        // When
+        assertThrows(DeadlineExceededException.class, () -> adapter.fetchWeather(query));
+
+        // Then
+        assertEquals(1, subscribed.getCount());
+    }
+}
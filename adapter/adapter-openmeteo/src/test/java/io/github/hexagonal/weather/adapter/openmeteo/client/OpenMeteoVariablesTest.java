@@ -0,0 +1,42 @@
+package io.github.hexagonal.weather.adapter.openmeteo.client;
+
+import io.github.hexagonal.weather.model.Measurement;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OpenMeteoVariables.
+ */
+class OpenMeteoVariablesTest {
+
+    @Test
+    void shouldRequestOnlyRequiredVariablesByDefault() {
+        // When
+        String variables = OpenMeteoVariables.of(Set.of());
+
+        // Then
+        assertEquals("temperature_2m,weather_code", variables);
+    }
+
+    @Test
+    void shouldAddRequestedVariablesInStableOrder() {
+        // When
+        String variables = OpenMeteoVariables.of(Set.of(Measurement.WIND_SPEED, Measurement.RELATIVE_HUMIDITY));
+
+        // Then
+        assertEquals("temperature_2m,weather_code,relative_humidity_2m,wind_speed_10m", variables);
+    }
+
+    @Test
+    void shouldMapEveryMeasurement() {
+        // When
+        String variables = OpenMeteoVariables.of(EnumSet.allOf(Measurement.class));
+
+        // Then
+        assertEquals(2 + Measurement.values().length, variables.split(",").length);
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.hexagonal.weather.adapter.openmeteo.failure;
+
+import io.github.hexagonal.weather.model.Location;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FailureLog.
+ */
+class FailureLogTest {
+
+    private final Location brussels = new Location(50.8503, 4.3517, "Brussels");
+    private final RecordingLogger logger = new RecordingLogger();
+
+    @Test
+    void shouldLogFirstFailureWithStackTraceAndCountTheRest() {
+        // Given
+        FailureLog failureLog = new FailureLog(logger, Duration.ofMinutes(1));
+
+        // When
+        failureLog.failed(brussels, new IOException("Connection reset"));
+        failureLog.failed(brussels, new IOException("Connection reset"));
+
+        // Then
+        assertEquals(1, logger.messages.size());
+        assertEquals(1, logger.stackTraces);
+    }
+
+    @Test
+    void shouldReportSuppressedFailuresWhenIntervalEndsWithoutFurtherFailures() throws Exception {
+        // Given
+        FailureLog failureLog = new FailureLog(logger, Duration.ofMillis(200));
+        failureLog.failed(brussels, new IOException("Connection reset"));
+
+        // When
+        failureLog.failed(brussels, new IOException("Connection reset"));
+        failureLog.failed(brussels, new TimeoutException());
+
+        // Then
+        long waitUntil = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (logger.messages.size() < 2 && System.nanoTime() < waitUntil) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, logger.messages.size());
+        assertTrue(logger.messages.get(1).startsWith("2 more upstream failures since the last report"));
+        assertTrue(logger.messages.get(1).contains("IOException x1"));
+        assertTrue(logger.messages.get(1).contains("TimeoutException x1"));
+        assertEquals(1, logger.stackTraces);
+    }
+
+    @Test
+    void shouldReportSuppressedFailuresAndStopSchedulingWhenClosed() throws Exception {
+        // Given
+        FailureLog failureLog = new FailureLog(logger, Duration.ofMillis(100));
+        failureLog.failed(brussels, new IOException("Connection reset"));
+        failureLog.failed(brussels, new IOException("Connection reset"));
+
+        // When
+        failureLog.close();
+        failureLog.failed(brussels, new TimeoutException());
+        Thread.sleep(300);
+
+        // Then - the summary scheduled before closing never runs
+        assertEquals(2, logger.messages.size());
+        assertTrue(logger.messages.get(1).startsWith("1 more upstream failures since the last report"));
+    }
+
+    private static final class RecordingLogger extends Logger {
+
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        volatile int stackTraces;
+
+        RecordingLogger() {
+            super(FailureLogTest.class.getName());
+        }
+
+        @Override
+        protected void doLog(Level level, String loggerClassName, Object message, Object[] parameters,
+                             Throwable thrown) {
+            record(String.valueOf(message), thrown);
+        }
+
+        @Override
+        protected void doLogf(Level level, String loggerClassName, String format, Object[] parameters,
+                              Throwable thrown) {
+            record(String.format(format, parameters), thrown);
+        }
+
+        @Override
+        public boolean isEnabled(Level level) {
+            return true;
+        }
+
+        private void record(String message, Throwable thrown) {
+            messages.add(message);
+            if (thrown != null) {
+                stackTraces++;
+            }
+        }
+    }
+}
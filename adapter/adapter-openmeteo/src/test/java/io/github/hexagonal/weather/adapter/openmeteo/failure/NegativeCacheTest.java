@@ -0,0 +1,104 @@
+package io.github.hexagonal.weather.adapter.openmeteo.failure;
+
+import io.github.hexagonal.weather.model.Location;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for NegativeCache.
+ */
+class NegativeCacheTest {
+
+    private final Location brussels = new Location(50.8503, 4.3517, "Brussels");
+    private final Location nearBrussels = new Location(50.8599, 4.3001);
+    private final Location paris = new Location(48.8566, 2.3522, "Paris");
+    private final Location london = new Location(51.5072, -0.1276, "London");
+
+    @Test
+    void shouldBlockCellAfterFailure() {
+        // Given
+        NegativeCache cache = new NegativeCache(true, 0.1, Duration.ofMinutes(1), Duration.ofMinutes(10), 100);
+
+        // When
+        cache.recordFailure(brussels);
+
+        // Then
+        assertFalse(cache.tryAcquire(brussels));
+        assertFalse(cache.tryAcquire(nearBrussels));
+        assertTrue(cache.tryAcquire(paris));
+    }
+
+    @Test
+    void shouldDoubleBackoffUpToMaximum() {
+        // Given
+        NegativeCache cache = new NegativeCache(true, 0.1, Duration.ofSeconds(5), Duration.ofSeconds(15), 100);
+
+        // When
+        Duration first = cache.recordFailure(brussels);
+        Duration second = cache.recordFailure(brussels);
+        Duration third = cache.recordFailure(brussels);
+
+        // Then
+        assertEquals(Duration.ofSeconds(5), first);
+        assertEquals(Duration.ofSeconds(10), second);
+        assertEquals(Duration.ofSeconds(15), third);
+    }
+
+    @Test
+    void shouldLetSingleProbeThroughOnceBackoffHasPassed() {
+        // Given
+        NegativeCache cache = new NegativeCache(true, 0.1, Duration.ZERO, Duration.ofMinutes(1), 100);
+        cache.recordFailure(brussels);
+
+        // Then
+        assertTrue(cache.tryAcquire(brussels));
+    }
+
+    @Test
+    void shouldForgetCellAfterSuccess() {
+        // Given
+        NegativeCache cache = new NegativeCache(true, 0.1, Duration.ofMinutes(1), Duration.ofMinutes(10), 100);
+        cache.recordFailure(brussels);
+
+        // When
+        cache.recordSuccess(nearBrussels);
+
+        // Then
+        assertTrue(cache.tryAcquire(brussels));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldNotBlockWhenDisabled() {
+        // Given
+        NegativeCache disabled = new NegativeCache(false, 0.1, Duration.ofMinutes(1), Duration.ofMinutes(10), 100);
+
+        // When
+        disabled.recordFailure(brussels);
+
+        // Then
+        assertTrue(disabled.tryAcquire(brussels));
+    }
+
+    @Test
+    void shouldDropCellThatFailedLongestAgoWhenFullOfBackingOffCells() {
+        // Given - a full cache whose cells are all still backing off
+        NegativeCache cache = new NegativeCache(true, 0.1, Duration.ofMinutes(1), Duration.ofMinutes(10), 2);
+        cache.recordFailure(brussels);
+        cache.recordFailure(paris);
+        cache.recordFailure(brussels);
+
+        // When
+        Duration backoff = cache.recordFailure(london);
+
+        // Then
+        assertEquals(Duration.ofMinutes(1), backoff);
+        assertEquals(2, cache.size());
+        assertTrue(cache.tryAcquire(paris));
+        assertFalse(cache.tryAcquire(brussels));
+        assertFalse(cache.tryAcquire(london));
+    }
+}
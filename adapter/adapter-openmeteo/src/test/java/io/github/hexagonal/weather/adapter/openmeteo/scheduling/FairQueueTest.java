@@ -0,0 +1,114 @@
+package io.github.hexagonal.weather.adapter.openmeteo.scheduling;
+
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.DeadlineExceededException;
+import io.github.hexagonal.weather.model.RequestCancelledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FairQueue.
+ */
+class FairQueueTest {
+
+    private static final ClientId NOISY = new ClientId("noisy");
+    private static final ClientId QUIET = new ClientId("quiet");
+    private static final ClientId HOLDER = new ClientId("holder");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldHandOutSlotsInProportionToWeights() throws InterruptedException {
+        // Given - one slot, held while both clients queue up
+        FairQueue queue = new FairQueue(true, 1, 1, Map.of("noisy", 2), registry);
+        queue.acquire(HOLDER, Deadline.none());
+        List<String> granted = new CopyOnWriteArrayList<>();
+        List<Thread> waiters = new ArrayList<>();
+        waiters.addAll(queueUp(queue, NOISY, 6, granted));
+        waiters.addAll(queueUp(queue, QUIET, 3, granted));
+
+        // When
+        queue.release();
+        for (Thread waiter : waiters) {
+            waiter.join(5000);
+        }
+
+        // Then
+        assertEquals(List.of("noisy", "noisy", "quiet", "noisy", "noisy", "quiet", "noisy", "noisy", "quiet"), granted);
+        assertEquals(6, registry.get("weather.upstream.calls").tag("client", "noisy").counter().count());
+        assertEquals(3, registry.get("weather.upstream.queue.wait").tag("client", "quiet").timer().count());
+        assertEquals(0, registry.get("weather.upstream.queue.depth").tag("client", "quiet").gauge().value());
+    }
+
+    @Test
+    void shouldGiveUpWhenDeadlineExpiresWithoutLosingTheSlot() {
+        // Given
+        FairQueue queue = new FairQueue(true, 1, 1, Map.of(), registry);
+        queue.acquire(HOLDER, Deadline.none());
+
+        // When
+        assertThrows(DeadlineExceededException.class,
+            () -> queue.acquire(QUIET, Deadline.after(Duration.ofMillis(50))));
+        queue.release();
+
+        // Then
+        assertEquals(0, queue.queued(QUIET));
+        assertDoesNotThrow(() -> queue.acquire(QUIET, Deadline.after(Duration.ofMillis(50))));
+    }
+
+    @Test
+    void shouldStopWaitingWhenRequestIsCancelled() throws InterruptedException {
+        // Given
+        FairQueue queue = new FairQueue(true, 1, 1, Map.of(), registry);
+        queue.acquire(HOLDER, Deadline.none());
+        Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                queue.acquire(QUIET, deadline);
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        });
+        awaitQueued(queue, QUIET, 1);
+
+        // When
+        deadline.cancel();
+        waiter.join(5000);
+
+        // Then
+        assertEquals(1, failures.size());
+        assertInstanceOf(RequestCancelledException.class, failures.get(0));
+        assertEquals(0, queue.queued(QUIET));
+    }
+
+    private static List<Thread> queueUp(FairQueue queue, ClientId client, int calls, List<String> granted) {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                queue.acquire(client, Deadline.none());
+                granted.add(client.name());
+                queue.release();
+            }));
+        }
+        awaitQueued(queue, client, calls);
+        return threads;
+    }
+
+    private static void awaitQueued(FairQueue queue, ClientId client, int calls) {
+        long until = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (queue.queued(client) < calls && System.nanoTime() < until) {
+            Thread.onSpinWait();
+        }
+        assertEquals(calls, queue.queued(client));
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.hexagonal.weather.adapter.openmeteo.warmup;
+
+import io.github.hexagonal.weather.adapter.openmeteo.client.OpenMeteoVariables;
+import io.github.hexagonal.weather.adapter.openmeteo.dto.OpenMeteoResponse;
+import io.github.hexagonal.weather.adapter.openmeteo.mapper.OpenMeteoMapper;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Measurement;
+import io.github.hexagonal.weather.model.Weather;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SyntheticForecasts.
+ */
+class SyntheticForecastsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 9, 30, 12, 52);
+
+    @Test
+    void shouldFillInOnlyRequestedVariables() {
+        // When
+        OpenMeteoResponse response = SyntheticForecasts.generate(50.85, 4.35,
+            OpenMeteoVariables.of(Set.of(Measurement.WIND_SPEED)), NOW);
+
+        // Then
+        assertNotNull(response.current().windSpeed());
+        assertNull(response.current().relativeHumidity());
+        assertNull(response.current().cloudCover());
+        assertEquals("2025-09-30T12:45", response.current().time());
+    }
+
+    @Test
+    void shouldMapLikeARealResponse() {
+        // Given
+        Location location = new Location(-33.87, 151.21);
+
+        // When
+        Weather weather = new OpenMeteoMapper().toDomain(SyntheticForecasts.generate(
+            location.latitude(), location.longitude(),
+            OpenMeteoVariables.of(EnumSet.allOf(Measurement.class)), NOW), location);
+
+        // Then
+        assertEquals(Instant.parse("2025-09-30T12:45:00Z"), weather.timestamp());
+        assertEquals(Measurement.values().length, weather.measurements().size());
+    }
+
+    @Test
+    void shouldVaryWithTheLocation() {
+        // When
+        long distinctCodes = IntStream.range(0, 100)
+            .map(i -> SyntheticForecasts.generate(i * 1.7 - 80, i * 3.1 - 150, null, NOW).current().weatherCode())
+            .distinct()
+            .count();
+
+        // Then
+        assertTrue(distinctCodes > 5);
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.hexagonal.weather.adapter.rest;
+
+import io.github.hexagonal.weather.adapter.rest.config.ClientConfig;
+import io.github.hexagonal.weather.model.ClientId;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.jbosslog.JBossLog;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Identifies API clients by the key they send in {@link ClientConfig#API_KEY_HEADER}.
+ * Requests without a key, or with a key that is not configured, are made for {@link ClientId#ANONYMOUS}.
+ */
+@ApplicationScoped
+@JBossLog
+public class ApiKeys {
+
+    private final Map<String, ClientId> clientsByKey = new HashMap<>();
+
+    @Inject
+    public ApiKeys(ClientConfig config) {
+        this(config.apiKeys());
+    }
+
+    public ApiKeys(Map<String, List<String>> keysByClient) {
+        keysByClient.forEach((name, keys) -> keys.forEach(key -> {
+            ClientId previous = clientsByKey.put(key.strip(), new ClientId(name));
+            if (previous != null && !previous.name().equals(name)) {
+                throw new IllegalArgumentException("API key configured for both " + previous.name() + " and " + name);
+            }
+        }));
+    }
+
+    public ClientId identify(String apiKey) {
+        if (apiKey == null || apiKey.isBlank()) {
+            return ClientId.ANONYMOUS;
+        }
+        ClientId client = clientsByKey.get(apiKey.strip());
+        if (client == null) {
+            log.debugf("Unknown API key, treating request as %s", ClientId.ANONYMOUS.name());
+            return ClientId.ANONYMOUS;
+        }
+        return client;
+    }
+}
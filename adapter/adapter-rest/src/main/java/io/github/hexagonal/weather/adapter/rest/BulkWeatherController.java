@@ -0,0 +1,129 @@
+package io.github.hexagonal.weather.adapter.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.hexagonal.weather.adapter.rest.bulk.BulkLookup;
+import io.github.hexagonal.weather.adapter.rest.bulk.BulkRow;
+import io.github.hexagonal.weather.adapter.rest.bulk.BulkRowReader;
+import io.github.hexagonal.weather.adapter.rest.bulk.CsvRowReader;
+import io.github.hexagonal.weather.adapter.rest.bulk.NdjsonRowReader;
+import io.github.hexagonal.weather.adapter.rest.config.BulkConfig;
+import io.github.hexagonal.weather.adapter.rest.config.ClientConfig;
+import io.github.hexagonal.weather.adapter.rest.dto.BulkWeatherResponse;
+import io.github.hexagonal.weather.adapter.rest.dto.WeatherField;
+import io.github.hexagonal.weather.adapter.rest.mapper.WeatherRestMapper;
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Weather;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+import lombok.extern.jbosslog.JBossLog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * REST adapter for bulk weather lookups.
+ * The request body is a stream of coordinates (NDJSON or CSV) and the response a stream of NDJSON results,
+ * one per input row and in the same order. Both are processed incrementally, so a single request can
+ * carry any number of rows; clients must read the response while they are still sending the body.
+ */
+@Path("/weather/bulk")
+@JBossLog
+public class BulkWeatherController {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    public static final String TEXT_CSV = "text/csv";
+
+    private final BulkLookup bulkLookup;
+    private final WeatherRestMapper mapper;
+    private final BulkConfig config;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final ApiKeys apiKeys;
+
+    @Inject
+    public BulkWeatherController(BulkLookup bulkLookup, WeatherRestMapper mapper, BulkConfig config,
+                                 ObjectMapper objectMapper, ApiKeys apiKeys) {
+        this.bulkLookup = bulkLookup;
+        this.apiKeys = apiKeys;
+        this.mapper = mapper;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(BulkWeatherResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Look up the weather for a stream of locations.
+     * NDJSON rows look like {@code {"id":"asset-1","lat":50.85,"lon":4.35}}; CSV rows like
+     * {@code 50.85,4.35,asset-1}, optionally below a header naming the columns.
+     * Rows that cannot be parsed or looked up get a result with an {@code error} instead of weather.
+     * All lookups count against the upstream share of the client identified by the API key.
+     *
+     * @param body        The request body
+     * @param contentType Format of the body
+     * @param fields      Comma-separated fields to return for every row, or {@code all}
+     * @param apiKey      Optional API key identifying the client
+     * @return NDJSON results, streamed as they complete
+     */
+    @POST
+    @Consumes({APPLICATION_NDJSON, TEXT_CSV})
+    @Produces(APPLICATION_NDJSON)
+    public StreamingOutput lookup(
+        InputStream body,
+        @HeaderParam(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+        @QueryParam("fields") String fields,
+        @HeaderParam(ClientConfig.API_KEY_HEADER) String apiKey
+    ) {
+        ClientId client = apiKeys.identify(apiKey);
+        log.infof("REST request: POST /weather/bulk (%s) fields=%s (client %s)", contentType, fields, client.name());
+
+        Set<WeatherField> selected = toFields(fields);
+        BulkRowReader rows = isCsv(contentType)
+            ? new CsvRowReader(body, config.maxLineLength())
+            : new NdjsonRowReader(body, config.maxLineLength(), objectMapper);
+
+        return output -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+                generator.setRootValueSeparator(null);
+                bulkLookup.run(rows, WeatherField.measurements(selected), client, new BulkLookup.Sink() {
+                    @Override
+                    public void write(BulkRow row, Weather weather, String error) throws IOException {
+                        writer.writeValue(generator, new BulkWeatherResponse(row.line(), row.id(),
+                            weather != null ? mapper.toResponse(weather, selected) : null, error));
+                        generator.writeRaw('\n');
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        generator.flush();
+                    }
+                });
+            }
+        };
+    }
+
+    private static boolean isCsv(MediaType contentType) {
+        return contentType != null && contentType.isCompatible(MediaType.valueOf(TEXT_CSV));
+    }
+
+    private static Set<WeatherField> toFields(String fields) {
+        try {
+            return WeatherField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+}
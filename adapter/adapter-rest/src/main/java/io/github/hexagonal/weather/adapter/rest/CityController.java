@@ -0,0 +1,66 @@
+package io.github.hexagonal.weather.adapter.rest;
+
+import io.github.hexagonal.weather.adapter.rest.dto.CityResponse;
+import io.github.hexagonal.weather.adapter.rest.mapper.CityRestMapper;
+import io.github.hexagonal.weather.adapter.rest.profiling.ResponseMappingEvent;
+import io.github.hexagonal.weather.adapter.rest.profiling.UseCaseInvocationEvent;
+import io.github.hexagonal.weather.application.port.in.FindCityUseCase;
+import io.github.hexagonal.weather.model.City;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import lombok.extern.jbosslog.JBossLog;
+
+import java.util.List;
+
+/**
+ * REST adapter providing city name autocompletion.
+ */
+@Path("/cities")
+@Produces(MediaType.APPLICATION_JSON)
+@JBossLog
+public class CityController {
+
+    private final FindCityUseCase findCityUseCase;
+    private final CityRestMapper mapper;
+
+    @Inject
+    public CityController(FindCityUseCase findCityUseCase, CityRestMapper mapper) {
+        this.findCityUseCase = findCityUseCase;
+        this.mapper = mapper;
+    }
+
+    /**
+     * List cities whose name starts with a prefix.
+     *
+     * @param prefix Name prefix (case- and accent-insensitive)
+     * @param limit  Maximum number of results
+     * @return Matching cities in alphabetical order
+     */
+    @GET
+    public List<CityResponse> searchCities(
+        @QueryParam("prefix") String prefix,
+        @QueryParam("limit") @DefaultValue("10") int limit
+    ) {
+        log.debugf("REST request: GET /cities?prefix=%s&limit=%d", prefix, limit);
+
+        UseCaseInvocationEvent invocation = UseCaseInvocationEvent.start("SearchCities");
+        List<City> cities;
+        try {
+            cities = findCityUseCase.searchCities(prefix, limit);
+        } catch (RuntimeException e) {
+            invocation.failed(e);
+            throw e;
+        }
+        invocation.succeeded();
+
+        ResponseMappingEvent mapping = ResponseMappingEvent.start("CityResponse");
+        List<CityResponse> responses = mapper.toResponses(cities);
+        mapping.finish();
+        return responses;
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.hexagonal.weather.adapter.rest;
+
+import io.github.hexagonal.weather.adapter.rest.config.ProfilingConfig;
+import io.github.hexagonal.weather.adapter.rest.dto.ProfilingSummaryResponse;
+import io.github.hexagonal.weather.adapter.rest.dto.RecordingDumpResponse;
+import io.github.hexagonal.weather.adapter.rest.mapper.ProfilingRestMapper;
+import io.github.hexagonal.weather.adapter.rest.profiling.FlightRecording;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.ForbiddenException;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.InternalServerErrorException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import lombok.extern.jbosslog.JBossLog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.time.Duration;
+
+/**
+ * Admin endpoints over the continuous Flight Recorder recording.
+ * Meant for operators: callers must send the configured admin token in {@link ProfilingConfig#ADMIN_TOKEN_HEADER},
+ * and without a configured token the endpoints answer 404.
+ */
+@Path("/admin/profiling")
+@Produces(MediaType.APPLICATION_JSON)
+@JBossLog
+public class ProfilingController {
+
+    private final FlightRecording recording;
+    private final ProfilingRestMapper mapper;
+    private final byte[] adminToken;
+
+    @Inject
+    public ProfilingController(FlightRecording recording, ProfilingRestMapper mapper, ProfilingConfig config) {
+        this.recording = recording;
+        this.mapper = mapper;
+        this.adminToken = config.adminToken()
+            .filter(token -> !token.isBlank())
+            .map(token -> token.strip().getBytes(StandardCharsets.UTF_8))
+            .orElse(null);
+    }
+
+    /**
+     * Dump the last minutes of the recording to a .jfr file on the server.
+     *
+     * @param minutes Length of the window, capped to the recording's max-age
+     * @param token   Admin token
+     * @return Location and size of the written file
+     */
+    @POST
+    @Path("/recording")
+    public RecordingDumpResponse dumpRecording(@QueryParam("minutes") @DefaultValue("5") int minutes,
+                                               @HeaderParam(ProfilingConfig.ADMIN_TOKEN_HEADER) String token) {
+        Duration window = window(minutes, token);
+        try {
+            java.nio.file.Path file = recording.dump(window);
+            return new RecordingDumpResponse(file.toString(), Files.size(file), window.toMinutes());
+        } catch (IOException e) {
+            log.errorf(e, "Unable to dump the recording");
+            throw new InternalServerErrorException("Unable to dump the recording");
+        }
+    }
+
+    /**
+     * Summarize the last minutes of the recording: latency histogram and outcomes per stage.
+     *
+     * @param minutes Length of the window, capped to the recording's max-age
+     * @param token   Admin token
+     * @return Per-stage latency statistics
+     */
+    @GET
+    @Path("/summary")
+    public ProfilingSummaryResponse getSummary(@QueryParam("minutes") @DefaultValue("5") int minutes,
+                                               @HeaderParam(ProfilingConfig.ADMIN_TOKEN_HEADER) String token) {
+        Duration window = window(minutes, token);
+        try {
+            return mapper.toResponse(recording.summarize(window));
+        } catch (IOException e) {
+            log.errorf(e, "Unable to read the recording");
+            throw new InternalServerErrorException("Unable to read the recording");
+        }
+    }
+
+    private Duration window(int minutes, String token) {
+        if (!recording.isRunning() || adminToken == null) {
+            throw new NotFoundException("Profiling is disabled");
+        }
+        if (token == null || !MessageDigest.isEqual(adminToken, token.strip().getBytes(StandardCharsets.UTF_8))) {
+            throw new ForbiddenException("Missing or invalid admin token");
+        }
+        if (minutes <= 0) {
+            throw new BadRequestException("minutes must be positive");
+        }
+        return recording.window(Duration.ofMinutes(minutes));
+    }
+}
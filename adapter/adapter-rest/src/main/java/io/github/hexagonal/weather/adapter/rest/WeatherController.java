@@ -1,17 +1,36 @@
 package io.github.hexagonal.weather.adapter.rest;
 
+import io.github.hexagonal.weather.adapter.rest.config.ClientConfig;
+import io.github.hexagonal.weather.adapter.rest.config.RequestConfig;
+import io.github.hexagonal.weather.adapter.rest.dto.WeatherField;
 import io.github.hexagonal.weather.adapter.rest.dto.WeatherResponse;
 import io.github.hexagonal.weather.adapter.rest.mapper.WeatherRestMapper;
+import io.github.hexagonal.weather.adapter.rest.profiling.ResponseMappingEvent;
+import io.github.hexagonal.weather.adapter.rest.profiling.UseCaseInvocationEvent;
+import io.github.hexagonal.weather.application.port.in.FindCityUseCase;
 import io.github.hexagonal.weather.application.port.in.GetWeatherUseCase;
+import io.github.hexagonal.weather.model.City;
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Deadline;
 import io.github.hexagonal.weather.model.Location;
 import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import io.vertx.core.http.HttpServerResponse;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import lombok.extern.jbosslog.JBossLog;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.Set;
 
 /**
  * REST adapter providing HTTP endpoints for weather information.
@@ -23,36 +42,116 @@ import lombok.extern.jbosslog.JBossLog;
 public class WeatherController {
 
     private final GetWeatherUseCase getWeatherUseCase;
+    private final FindCityUseCase findCityUseCase;
     private final WeatherRestMapper mapper;
+    private final RequestConfig requestConfig;
+    private final ApiKeys apiKeys;
+    private final Logger.Level requestLogLevel;
 
     @Inject
-    public WeatherController(GetWeatherUseCase getWeatherUseCase, WeatherRestMapper mapper) {
+    public WeatherController(GetWeatherUseCase getWeatherUseCase, FindCityUseCase findCityUseCase,
+                             WeatherRestMapper mapper, RequestConfig requestConfig, ApiKeys apiKeys) {
+        this(getWeatherUseCase, findCityUseCase, mapper, requestConfig, apiKeys, Logger.Level.INFO);
+    }
+
+    /**
+     * @param requestLogLevel Level of the per-request log line, e.g. {@code DEBUG} for synthetic requests
+     */
+    protected WeatherController(GetWeatherUseCase getWeatherUseCase, FindCityUseCase findCityUseCase,
+                                WeatherRestMapper mapper, RequestConfig requestConfig, ApiKeys apiKeys,
+                                Logger.Level requestLogLevel) {
         this.getWeatherUseCase = getWeatherUseCase;
+        this.findCityUseCase = findCityUseCase;
         this.mapper = mapper;
+        this.requestConfig = requestConfig;
+        this.apiKeys = apiKeys;
+        this.requestLogLevel = requestLogLevel;
     }
 
     /**
      * Get current weather for a location.
+     * Without coordinates, the city name is looked up in the gazetteer.
+     * Only the selected fields are fetched and returned (default: temperature and condition).
+     * The request is abandoned when its timeout passes or the client disconnects.
+     * Clients identified by an API key get their configured share of upstream capacity.
      *
-     * @param latitude  Latitude coordinate
-     * @param longitude Longitude coordinate
-     * @param cityName  Optional city name
+     * @param latitude      Latitude coordinate
+     * @param longitude     Longitude coordinate
+     * @param cityName      City name: a display label with coordinates, or the place to look up without
+     * @param fields        Comma-separated fields to return, e.g. {@code temperature,wind_speed}, or {@code all}
+     * @param timeoutMillis Optional client timeout in milliseconds
+     * @param apiKey        Optional API key identifying the client
+     * @param response      The underlying HTTP response, used to detect client disconnects
      * @return Weather information
      */
     @GET
     public WeatherResponse getWeather(
-        @QueryParam("lat") double latitude,
-        @QueryParam("lon") double longitude,
-        @QueryParam("city") String cityName
+        @QueryParam("lat") Double latitude,
+        @QueryParam("lon") Double longitude,
+        @QueryParam("city") String cityName,
+        @QueryParam("fields") String fields,
+        @HeaderParam(RequestConfig.TIMEOUT_HEADER) Long timeoutMillis,
+        @HeaderParam(ClientConfig.API_KEY_HEADER) String apiKey,
+        @Context HttpServerResponse response
     ) {
-        log.infof("REST request: GET /weather?lat=%f&lon=%f&city=%s", latitude, longitude, cityName);
+        ClientId client = apiKeys.identify(apiKey);
+        log.logf(requestLogLevel, "REST request: GET /weather?lat=%s&lon=%s&city=%s&fields=%s (client %s)",
+            latitude, longitude, cityName, fields, client.name());
+
+        Deadline deadline = Deadline.after(timeout(timeoutMillis));
+        response.closeHandler(closed -> deadline.cancel());
+
+        Set<WeatherField> selected = toFields(fields);
+        Location location = toLocation(latitude, longitude, cityName);
+
+        WeatherQuery query = new WeatherQuery(location, WeatherField.measurements(selected), deadline, client);
+
+        UseCaseInvocationEvent invocation = UseCaseInvocationEvent.start("GetWeather");
+        Weather weather;
+        try {
+            weather = getWeatherUseCase.getWeather(query);
+        } catch (RuntimeException e) {
+            invocation.failed(e);
+            throw e;
+        }
+        invocation.succeeded();
+
+        ResponseMappingEvent mapping = ResponseMappingEvent.start("WeatherResponse");
+        WeatherResponse weatherResponse = mapper.toResponse(weather, selected);
+        mapping.finish();
+        return weatherResponse;
+    }
+
+    private static Set<WeatherField> toFields(String fields) {
+        try {
+            return WeatherField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    private Duration timeout(Long timeoutMillis) {
+        if (timeoutMillis == null || timeoutMillis <= 0) {
+            return requestConfig.defaultTimeout();
+        }
+        Duration requested = Duration.ofMillis(timeoutMillis);
+        return requested.compareTo(requestConfig.maxTimeout()) > 0 ? requestConfig.maxTimeout() : requested;
+    }
 
-        Location location = cityName != null && !cityName.isBlank()
-            ? new Location(latitude, longitude, cityName)
-            : new Location(latitude, longitude);
+    private Location toLocation(Double latitude, Double longitude, String cityName) {
+        boolean hasCityName = cityName != null && !cityName.isBlank();
 
-        Weather weather = getWeatherUseCase.getWeather(location);
+        if (latitude != null && longitude != null) {
+            return hasCityName
+                ? new Location(latitude, longitude, cityName)
+                : new Location(latitude, longitude);
+        }
+        if (latitude != null || longitude != null || !hasCityName) {
+            throw new BadRequestException("Either lat and lon, or city is required");
+        }
 
-        return mapper.toResponse(weather);
+        return findCityUseCase.findCity(cityName)
+            .map(City::toLocation)
+            .orElseThrow(() -> new NotFoundException("Unknown city: " + cityName));
     }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package io.github.hexagonal.weather.adapter.rest;
+
+import io.github.hexagonal.weather.model.DeadlineExceededException;
+import io.github.hexagonal.weather.model.RequestCancelledException;
+import io.github.hexagonal.weather.model.WeatherNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
+
+/**
+ * Maps domain failures to HTTP responses.
+ * These are expected failures, so they are answered without logging a stack trace.
+ */
+public class WeatherExceptionMapper {
+
+    /**
+     * Non-standard status for requests the client closed before a response was sent.
+     */
+    static final int CLIENT_CLOSED_REQUEST = 499;
+
+    private final Counter expiredRequests;
+    private final Counter cancelledRequests;
+
+    @Inject
+    public WeatherExceptionMapper(MeterRegistry registry) {
+        this.expiredRequests = registry.counter("weather.requests.aborted", "reason", "expired");
+        this.cancelledRequests = registry.counter("weather.requests.aborted", "reason", "cancelled");
+    }
+
+    @ServerExceptionMapper
+    public Response mapWeatherNotFound(WeatherNotFoundException e) {
+        return Response.status(Response.Status.BAD_GATEWAY).build();
+    }
+
+    @ServerExceptionMapper
+    public Response mapDeadlineExceeded(DeadlineExceededException e) {
+        expiredRequests.increment();
+        return Response.status(Response.Status.GATEWAY_TIMEOUT).build();
+    }
+
+    @ServerExceptionMapper
+    public Response mapRequestCancelled(RequestCancelledException e) {
+        cancelledRequests.increment();
+        return Response.status(CLIENT_CLOSED_REQUEST).build();
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.hexagonal.weather.adapter.rest.bulk;
+
+import io.github.hexagonal.weather.adapter.rest.config.BulkConfig;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.vertx.core.MultiMap;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.jbosslog.JBossLog;
+
+/**
+ * Gives POST /weather/bulk its own body limit ({@code weather.bulk.max-body-size}), while every other
+ * endpoint keeps the global {@code quarkus.http.limits.max-body-size}.
+ * <p>
+ * Quarkus has no per-route body limit, so this mirrors
+ * {@code io.quarkus.vertx.http.runtime.options.HttpServerCommonHandlers#enforceMaxBodySize}, which installs
+ * the global limit as a route of order -2: a request whose Content-Length exceeds it is answered 413, and
+ * any other request gets the limit attached under {@link VertxHttpRecorder#MAX_REQUEST_SIZE_KEY} for the
+ * body stream to enforce while reading. For bulk requests, the route just before it checks Content-Length
+ * against the bulk limit and hides the header, and the route just after it restores the header and
+ * replaces the attached limit; only routes of order -2 run while the header is hidden.
+ * <p>
+ * Both the order and the key are Quarkus internals, checked against {@value #VERIFIED_QUARKUS}. On any
+ * other Quarkus version the routes are not installed, and bulk requests keep the global limit until this
+ * class has been checked against that version's {@code HttpServerCommonHandlers}. If the global limit
+ * route is not found where expected at runtime, bulk requests are failed instead of running unlimited.
+ */
+@ApplicationScoped
+@JBossLog
+public class BulkBodyLimit {
+
+    static final String PATH = "/weather/bulk";
+
+    /**
+     * Quarkus version (major.minor) whose {@code HttpServerCommonHandlers} this class mirrors.
+     */
+    static final String VERIFIED_QUARKUS = "3.15";
+
+    private static final int GLOBAL_LIMIT_ORDER = -2;
+    private static final String CONTENT_LENGTH = BulkBodyLimit.class.getName() + ".content-length";
+
+    private final long maxBodySize;
+
+    @Inject
+    public BulkBodyLimit(BulkConfig config) {
+        this.maxBodySize = config.maxBodySize().asLongValue();
+    }
+
+    void register(@Observes Router router) {
+        String quarkus = VertxHttpRecorder.class.getPackage().getSpecificationVersion();
+        if (!VERIFIED_QUARKUS.equals(quarkus)) {
+            log.warnf("weather.bulk.max-body-size is ignored: it relies on Quarkus %s internals, running %s;"
+                + " POST %s keeps quarkus.http.limits.max-body-size", VERIFIED_QUARKUS, quarkus, PATH);
+            return;
+        }
+        router.post(PATH).order(GLOBAL_LIMIT_ORDER - 1).handler(this::hideContentLength);
+        router.post(PATH).order(GLOBAL_LIMIT_ORDER + 1).handler(this::replaceLimit);
+    }
+
+    private void hideContentLength(RoutingContext context) {
+        MultiMap headers = context.request().headers();
+        String contentLength = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength != null) {
+            long length;
+            try {
+                length = Long.parseLong(contentLength);
+            } catch (NumberFormatException e) {
+                context.fail(HttpResponseStatus.BAD_REQUEST.code());
+                return;
+            }
+            if (length > maxBodySize) {
+                context.response()
+                    .putHeader(HttpHeaderNames.CONNECTION, "close")
+                    .setStatusCode(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE.code())
+                    .end();
+                return;
+            }
+            context.put(CONTENT_LENGTH, contentLength);
+            headers.remove(HttpHeaderNames.CONTENT_LENGTH);
+        }
+        context.next();
+    }
+
+    private void replaceLimit(RoutingContext context) {
+        String contentLength = context.get(CONTENT_LENGTH);
+        if (contentLength != null) {
+            context.request().headers().set(HttpHeaderNames.CONTENT_LENGTH, contentLength);
+        }
+        if (context.get(VertxHttpRecorder.MAX_REQUEST_SIZE_KEY) == null) {
+            // The global limit route did not run in between, so the hidden header bypassed it
+            log.errorf("Quarkus body limit route not found at order %d; rejecting POST %s",
+                GLOBAL_LIMIT_ORDER, PATH);
+            context.fail(HttpResponseStatus.INTERNAL_SERVER_ERROR.code());
+            return;
+        }
+        context.put(VertxHttpRecorder.MAX_REQUEST_SIZE_KEY, maxBodySize);
+        context.next();
+    }
+}
@@ -0,0 +1,202 @@
+package io.github.hexagonal.weather.adapter.rest.bulk;
+
+import io.github.hexagonal.weather.adapter.rest.config.BulkConfig;
+import io.github.hexagonal.weather.application.port.in.GetWeatherUseCase;
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.Measurement;
+import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherException;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.jbosslog.JBossLog;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the lookups of a bulk request with bounded parallelism and hands the results over in input order.
+ * <p>
+ * At most {@code parallelism} rows are in flight, each on its own virtual thread. The next row is read
+ * only when there is room in that window, and room is made by writing the oldest result, so a slow
+ * upstream or a client that reads its results slowly holds back reading the input. Memory use is bounded
+ * by the window, not by the size of the request.
+ */
+@ApplicationScoped
+@JBossLog
+public class BulkLookup {
+
+    /**
+     * Receives the results of a bulk lookup, in input order.
+     */
+    public interface Sink {
+
+        /**
+         * @param row     The input row
+         * @param weather Weather for the row, or null if there is none
+         * @param error   Why there is no weather, or null
+         */
+        void write(BulkRow row, Weather weather, String error) throws IOException;
+
+        /**
+         * Sends written results on to the client; called before waiting for more input.
+         */
+        void flush() throws IOException;
+    }
+
+    /**
+     * Outcome of a bulk lookup.
+     */
+    public record Summary(long rows, long failed, long invalid, Duration elapsed) {
+
+        public double rowsPerSecond() {
+            return elapsed.isZero() ? 0 : rows * 1e9 / elapsed.toNanos();
+        }
+    }
+
+    private final GetWeatherUseCase getWeatherUseCase;
+    private final int parallelism;
+    private final Duration rowTimeout;
+    private final Counter okRows;
+    private final Counter failedRows;
+    private final Counter invalidRows;
+
+    @Inject
+    public BulkLookup(GetWeatherUseCase getWeatherUseCase, BulkConfig config, MeterRegistry registry) {
+        this(getWeatherUseCase, config.parallelism(), config.rowTimeout(), registry);
+    }
+
+    public BulkLookup(GetWeatherUseCase getWeatherUseCase, int parallelism, Duration rowTimeout,
+                      MeterRegistry registry) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Bulk parallelism must be at least 1");
+        }
+        this.getWeatherUseCase = getWeatherUseCase;
+        this.parallelism = parallelism;
+        this.rowTimeout = rowTimeout;
+        this.okRows = registry.counter("weather.bulk.rows", "outcome", "ok");
+        this.failedRows = registry.counter("weather.bulk.rows", "outcome", "failed");
+        this.invalidRows = registry.counter("weather.bulk.rows", "outcome", "invalid");
+    }
+
+    /**
+     * Looks up the weather for every row on behalf of the client and writes the results in input order.
+     * If reading or writing fails (e.g. the client disconnects), the lookups in flight are cancelled.
+     */
+    public Summary run(BulkRowReader rows, Set<Measurement> measurements, ClientId client, Sink sink)
+        throws IOException {
+        long started = System.nanoTime();
+        Tally tally = new Tally();
+        Deque<Pending> window = new ArrayDeque<>(parallelism);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                boolean more = true;
+                while (more || !window.isEmpty()) {
+                    while (more && window.size() < parallelism) {
+                        if (!rows.ready()) {
+                            // About to wait for the client: hand over what is already done
+                            while (!window.isEmpty() && window.peek().result().isDone()) {
+                                write(window.poll(), sink, tally);
+                            }
+                            sink.flush();
+                        }
+                        BulkRow row = rows.next();
+                        if (row == null) {
+                            more = false;
+                        } else {
+                            window.add(start(row, measurements, client, executor));
+                        }
+                    }
+                    if (!window.isEmpty()) {
+                        write(window.poll(), sink, tally);
+                    }
+                }
+                sink.flush();
+            } catch (IOException e) {
+                log.infof("Bulk lookup aborted after %d rows: %s", tally.rows, e.toString());
+                throw e;
+            } finally {
+                window.forEach(Pending::cancel);
+            }
+        }
+
+        Summary summary = new Summary(tally.rows, tally.failed, tally.invalid,
+            Duration.ofNanos(System.nanoTime() - started));
+        log.infof("Bulk lookup finished: %d rows (%d failed, %d invalid) in %d ms, %.0f rows/s",
+            summary.rows(), summary.failed(), summary.invalid(), summary.elapsed().toMillis(), summary.rowsPerSecond());
+        return summary;
+    }
+
+    private Pending start(BulkRow row, Set<Measurement> measurements, ClientId client, ExecutorService executor) {
+        if (!row.isValid()) {
+            return new Pending(row, null, CompletableFuture.completedFuture(null));
+        }
+        Deadline deadline = Deadline.after(rowTimeout);
+        return new Pending(row, deadline,
+            executor.submit(() -> getWeatherUseCase.getWeather(
+                new WeatherQuery(row.location(), measurements, deadline, client))));
+    }
+
+    private void write(Pending pending, Sink sink, Tally tally) throws IOException {
+        BulkRow row = pending.row();
+        tally.rows++;
+        if (!row.isValid()) {
+            tally.invalid++;
+            invalidRows.increment();
+            sink.write(row, null, row.error());
+            return;
+        }
+
+        Weather weather;
+        try {
+            weather = pending.result().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for the lookup of line " + row.line());
+        } catch (ExecutionException e) {
+            tally.failed++;
+            failedRows.increment();
+            sink.write(row, null, describe(row, e.getCause()));
+            return;
+        }
+        okRows.increment();
+        sink.write(row, weather, null);
+    }
+
+    private static String describe(BulkRow row, Throwable failure) {
+        if (failure instanceof WeatherException) {
+            return failure.getMessage();
+        }
+        log.warnf(failure, "Bulk lookup failed unexpectedly for line %d", row.line());
+        return "Lookup failed";
+    }
+
+    private record Pending(BulkRow row, Deadline deadline, Future<Weather> result) {
+
+        void cancel() {
+            if (deadline != null) {
+                deadline.cancel();
+            }
+            result.cancel(true);
+        }
+    }
+
+    private static final class Tally {
+        long rows;
+        long failed;
+        long invalid;
+    }
+}
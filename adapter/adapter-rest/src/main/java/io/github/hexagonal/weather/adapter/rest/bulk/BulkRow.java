@@ -0,0 +1,26 @@
+package io.github.hexagonal.weather.adapter.rest.bulk;
+
+import io.github.hexagonal.weather.model.Location;
+
+/**
+ * One input row of a bulk lookup: the location to look up, or why the row could not be parsed.
+ *
+ * @param line     Line number in the request body (1-based)
+ * @param id       Optional client identifier, echoed in the result
+ * @param location The location to look up, or null if the row is invalid
+ * @param error    Why the row is invalid, or null
+ */
+public record BulkRow(long line, String id, Location location, String error) {
+
+    public static BulkRow of(long line, String id, Location location) {
+        return new BulkRow(line, id, location, null);
+    }
+
+    public static BulkRow invalid(long line, String id, String error) {
+        return new BulkRow(line, id, null, error);
+    }
+
+    public boolean isValid() {
+        return location != null;
+    }
+}
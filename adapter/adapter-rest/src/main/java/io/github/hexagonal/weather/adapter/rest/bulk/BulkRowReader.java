@@ -0,0 +1,122 @@
+package io.github.hexagonal.weather.adapter.rest.bulk;
+
+import io.github.hexagonal.weather.model.Location;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the rows of a bulk request body one line at a time.
+ * Only the current line is held in memory, and lines longer than the configured maximum are
+ * skipped and reported as invalid, so memory use does not depend on the size of the body.
+ * Blank lines are ignored.
+ */
+public abstract class BulkRowReader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int END_OF_INPUT = -1;
+    private static final int LINE = 0;
+    private static final int LINE_TOO_LONG = 1;
+
+    private final Reader in;
+    private final int maxLineLength;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private long lineNumber;
+
+    protected BulkRowReader(InputStream in, int maxLineLength) {
+        this.in = new InputStreamReader(in, StandardCharsets.UTF_8);
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Reads the next row, blocking until a full line has arrived.
+     *
+     * @return The next row, or null at the end of the body
+     */
+    public BulkRow next() throws IOException {
+        while (true) {
+            line.setLength(0);
+            int end = readLine();
+            if (end == END_OF_INPUT) {
+                return null;
+            }
+            lineNumber++;
+            if (end == LINE_TOO_LONG) {
+                return BulkRow.invalid(lineNumber, null, "Line longer than " + maxLineLength + " characters");
+            }
+            String text = line.toString().strip();
+            if (!text.isEmpty()) {
+                BulkRow row = parse(lineNumber, text);
+                if (row != null) {
+                    return row;
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether a row can be read without waiting for the client.
+     */
+    public boolean ready() throws IOException {
+        return position < limit || in.ready();
+    }
+
+    /**
+     * Parses one non-blank line.
+     *
+     * @return The row, or null to skip the line (e.g. a header)
+     */
+    protected abstract BulkRow parse(long lineNumber, String line);
+
+    /**
+     * Builds a row from parsed coordinates, checking their range (which also rejects NaN).
+     */
+    protected static BulkRow toRow(long lineNumber, String id, double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) {
+            return BulkRow.invalid(lineNumber, id, "Coordinates out of range");
+        }
+        return BulkRow.of(lineNumber, id, new Location(latitude, longitude));
+    }
+
+    /**
+     * Reads up to the next newline into {@link #line}, discarding what does not fit.
+     */
+    private int readLine() throws IOException {
+        boolean consumed = false;
+        boolean tooLong = false;
+        while (true) {
+            if (position == limit) {
+                int read = in.read(buffer, 0, BUFFER_SIZE);
+                if (read <= 0) {
+                    position = limit = 0;
+                    return !consumed ? END_OF_INPUT : tooLong ? LINE_TOO_LONG : LINE;
+                }
+                position = 0;
+                limit = read;
+            }
+            consumed = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            if (!tooLong) {
+                if (line.length() + position - start > maxLineLength) {
+                    tooLong = true;
+                    line.setLength(0);
+                } else {
+                    line.append(buffer, start, position - start);
+                }
+            }
+            if (position < limit) {
+                position++;
+                return tooLong ? LINE_TOO_LONG : LINE;
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.hexagonal.weather.adapter.rest.bulk;
+
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Reads bulk rows from CSV: {@code lat,lon[,id]} per line.
+ * An optional header line names the columns ({@code lat}/{@code latitude}, {@code lon}/{@code longitude}
+ * and {@code id}, in any order); extra columns are ignored. Quoted fields are not supported.
+ */
+public class CsvRowReader extends BulkRowReader {
+
+    private boolean firstRow = true;
+    private int latitudeColumn = 0;
+    private int longitudeColumn = 1;
+    private int idColumn = 2;
+
+    public CsvRowReader(InputStream in, int maxLineLength) {
+        super(in, maxLineLength);
+    }
+
+    @Override
+    protected BulkRow parse(long lineNumber, String line) {
+        String[] columns = line.split(",", -1);
+        if (firstRow) {
+            firstRow = false;
+            if (isHeader(columns)) {
+                return readHeader(lineNumber, columns);
+            }
+        }
+
+        String id = column(columns, idColumn);
+        String latitude = column(columns, latitudeColumn);
+        String longitude = column(columns, longitudeColumn);
+        if (latitude == null || longitude == null) {
+            return BulkRow.invalid(lineNumber, id, "Expected lat,lon");
+        }
+        try {
+            return toRow(lineNumber, id, Double.parseDouble(latitude), Double.parseDouble(longitude));
+        } catch (NumberFormatException e) {
+            return BulkRow.invalid(lineNumber, id, "Invalid coordinates");
+        }
+    }
+
+    private static boolean isHeader(String[] columns) {
+        String first = columns[0].strip();
+        return !first.isEmpty() && Character.isLetter(first.charAt(0));
+    }
+
+    private BulkRow readHeader(long lineNumber, String[] columns) {
+        latitudeColumn = longitudeColumn = idColumn = -1;
+        for (int i = 0; i < columns.length; i++) {
+            switch (columns[i].strip().toLowerCase(Locale.ROOT)) {
+                case "lat", "latitude" -> latitudeColumn = i;
+                case "lon", "lng", "longitude" -> longitudeColumn = i;
+                case "id" -> idColumn = i;
+                default -> {
+                    // Extra columns are ignored
+                }
+            }
+        }
+        if (latitudeColumn < 0 || longitudeColumn < 0) {
+            return BulkRow.invalid(lineNumber, null, "Header must name the lat and lon columns");
+        }
+        return null;
+    }
+
+    private static String column(String[] columns, int index) {
+        if (index < 0 || index >= columns.length) {
+            return null;
+        }
+        String value = columns[index].strip();
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.hexagonal.weather.adapter.rest.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.hexagonal.weather.adapter.rest.dto.BulkLocationRequest;
+
+import java.io.InputStream;
+
+/**
+ * Reads bulk rows from NDJSON: one {@link BulkLocationRequest} object per line.
+ */
+public class NdjsonRowReader extends BulkRowReader {
+
+    private final ObjectReader reader;
+
+    public NdjsonRowReader(InputStream in, int maxLineLength, ObjectMapper objectMapper) {
+        super(in, maxLineLength);
+        this.reader = objectMapper.readerFor(BulkLocationRequest.class);
+    }
+
+    @Override
+    protected BulkRow parse(long lineNumber, String line) {
+        BulkLocationRequest request;
+        try {
+            request = reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return BulkRow.invalid(lineNumber, null, "Invalid JSON");
+        }
+        if (request == null || request.latitude() == null || request.longitude() == null) {
+            return BulkRow.invalid(lineNumber, request != null ? request.id() : null, "Expected lat and lon");
+        }
+        return toRow(lineNumber, request.id(), request.latitude(), request.longitude());
+    }
+}
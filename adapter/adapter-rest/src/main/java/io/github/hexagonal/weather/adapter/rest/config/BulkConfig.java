@@ -0,0 +1,40 @@
+package io.github.hexagonal.weather.adapter.rest.config;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Configuration for bulk lookups through POST /weather/bulk (weather.bulk.*).
+ */
+@ConfigMapping(prefix = "weather.bulk")
+public interface BulkConfig {
+
+    /**
+     * Maximum number of lookups in flight per bulk request.
+     * This is also how far reading the input may run ahead of the oldest unwritten result.
+     */
+    @WithDefault("16")
+    int parallelism();
+
+    /**
+     * Time budget of each row's lookup.
+     */
+    @WithDefault("10s")
+    Duration rowTimeout();
+
+    /**
+     * Longest input line accepted, in characters; longer lines are reported as invalid rows.
+     */
+    @WithDefault("4096")
+    int maxLineLength();
+
+    /**
+     * Largest body of one bulk request. Only POST /weather/bulk gets this limit;
+     * every other endpoint keeps {@code quarkus.http.limits.max-body-size}.
+     */
+    @WithDefault("8G")
+    MemorySize maxBodySize();
+}
@@ -0,0 +1,24 @@
+package io.github.hexagonal.weather.adapter.rest.config;
+
+import io.smallrye.config.ConfigMapping;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration for identifying API clients (weather.clients.*).
+ */
+@ConfigMapping(prefix = "weather.clients")
+public interface ClientConfig {
+
+    /**
+     * Header in which clients pass their API key.
+     */
+    String API_KEY_HEADER = "X-Api-Key";
+
+    /**
+     * API keys by client name, e.g. {@code weather.clients.api-keys.reporting=${REPORTING_API_KEY}}.
+     * Several keys can be given per client, comma-separated, to rotate them.
+     */
+    Map<String, List<String>> apiKeys();
+}
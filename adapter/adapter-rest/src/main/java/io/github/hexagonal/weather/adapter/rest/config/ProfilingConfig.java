@@ -0,0 +1,55 @@
+package io.github.hexagonal.weather.adapter.rest.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Configuration for the continuous Flight Recorder recording (weather.profiling.*).
+ */
+@ConfigMapping(prefix = "weather.profiling")
+public interface ProfilingConfig {
+
+    /**
+     * Header in which operators pass the admin token.
+     */
+    String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    /**
+     * Whether to record the service's stage events and expose the /admin/profiling endpoints.
+     */
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * How much history the recording keeps; older data is discarded.
+     */
+    @WithDefault("30m")
+    Duration maxAge();
+
+    /**
+     * Upper bound for the recording on disk, in bytes.
+     */
+    @WithDefault("67108864")
+    long maxSize();
+
+    /**
+     * Directory for recordings dumped through the admin endpoint (default: the temp directory).
+     */
+    Optional<Path> dumpDirectory();
+
+    /**
+     * How many dumps to keep in the dump directory; older ones are deleted.
+     */
+    @WithDefault("5")
+    int maxDumps();
+
+    /**
+     * Token the /admin/profiling endpoints require in {@link #ADMIN_TOKEN_HEADER}.
+     * Without one, the endpoints answer 404 while the recording still runs.
+     */
+    Optional<String> adminToken();
+}
@@ -0,0 +1,30 @@
+package io.github.hexagonal.weather.adapter.rest.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Configuration for request deadlines (weather.request.*).
+ */
+@ConfigMapping(prefix = "weather.request")
+public interface RequestConfig {
+
+    /**
+     * Header in which clients can pass their own timeout, in milliseconds.
+     */
+    String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    /**
+     * Time budget of a request whose client does not send a timeout header.
+     */
+    @WithDefault("10s")
+    Duration defaultTimeout();
+
+    /**
+     * Upper bound for timeouts requested by clients.
+     */
+    @WithDefault("60s")
+    Duration maxTimeout();
+}
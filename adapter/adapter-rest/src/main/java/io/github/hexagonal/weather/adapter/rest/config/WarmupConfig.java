@@ -0,0 +1,37 @@
+package io.github.hexagonal.weather.adapter.rest.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the warm-up phase before the service reports ready (weather.warmup.*).
+ */
+@ConfigMapping(prefix = "weather.warmup")
+public interface WarmupConfig {
+
+    /**
+     * Whether to send synthetic lookups through the service before it reports ready.
+     */
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * Number of synthetic lookups to send.
+     */
+    @WithDefault("10000")
+    int requests();
+
+    /**
+     * Number of lookups in flight at a time.
+     */
+    @WithDefault("4")
+    int concurrency();
+
+    /**
+     * Upper bound for the warm-up; the service reports ready afterwards even if not all lookups were sent.
+     */
+    @WithDefault("60s")
+    Duration maxDuration();
+}
@@ -0,0 +1,16 @@
+package io.github.hexagonal.weather.adapter.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One NDJSON input line of a bulk lookup, e.g. {@code {"id":"asset-1","lat":50.85,"lon":4.35}}.
+ * Other properties are ignored, so clients can send their own records as they are.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BulkLocationRequest(
+    @JsonProperty("id") String id,
+    @JsonProperty("lat") @JsonAlias("latitude") Double latitude,
+    @JsonProperty("lon") @JsonAlias("longitude") Double longitude
+) {}
@@ -0,0 +1,15 @@
+package io.github.hexagonal.weather.adapter.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One NDJSON output line of a bulk lookup: the weather for an input row, or why there is none.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkWeatherResponse(
+    @JsonProperty("line") long line,
+    @JsonProperty("id") String id,
+    @JsonProperty("weather") WeatherResponse weather,
+    @JsonProperty("error") String error
+) {}
@@ -0,0 +1,14 @@
+package io.github.hexagonal.weather.adapter.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * REST response DTO for a city lookup.
+ */
+public record CityResponse(
+    @JsonProperty("name") String name,
+    @JsonProperty("country_code") String countryCode,
+    @JsonProperty("latitude") double latitude,
+    @JsonProperty("longitude") double longitude,
+    @JsonProperty("population") long population
+) {}
@@ -0,0 +1,35 @@
+package io.github.hexagonal.weather.adapter.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST response DTO with per-stage latency statistics from the continuous recording.
+ */
+public record ProfilingSummaryResponse(
+    @JsonProperty("window_minutes") long windowMinutes,
+    @JsonProperty("stages") List<StageDto> stages
+) {
+    public record StageDto(
+        @JsonProperty("stage") String stage,
+        @JsonProperty("event") String event,
+        @JsonProperty("count") long count,
+        @JsonProperty("mean_ms") double meanMillis,
+        @JsonProperty("p50_ms") double p50Millis,
+        @JsonProperty("p90_ms") double p90Millis,
+        @JsonProperty("p99_ms") double p99Millis,
+        @JsonProperty("max_ms") double maxMillis,
+        @JsonProperty("histogram") List<BucketDto> histogram,
+        @JsonProperty("outcomes") Map<String, Long> outcomes
+    ) {}
+
+    /**
+     * Number of samples up to {@code le_ms}; the last bucket has no upper bound ({@code le_ms} null).
+     */
+    public record BucketDto(
+        @JsonProperty("le_ms") Double upperBoundMillis,
+        @JsonProperty("count") long count
+    ) {}
+}
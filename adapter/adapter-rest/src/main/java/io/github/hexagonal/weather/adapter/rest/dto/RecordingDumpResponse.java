@@ -0,0 +1,12 @@
+package io.github.hexagonal.weather.adapter.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * REST response DTO for a dumped recording.
+ */
+public record RecordingDumpResponse(
+    @JsonProperty("file") String file,
+    @JsonProperty("bytes") long bytes,
+    @JsonProperty("window_minutes") long windowMinutes
+) {}
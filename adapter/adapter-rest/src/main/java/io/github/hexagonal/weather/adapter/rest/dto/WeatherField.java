@@ -0,0 +1,69 @@
+package io.github.hexagonal.weather.adapter.rest.dto;
+
+import io.github.hexagonal.weather.model.Measurement;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Weather fields a client can select with the {@code fields} query parameter.
+ * Location and timestamp are always part of the response.
+ */
+public enum WeatherField {
+    TEMPERATURE(null),
+    CONDITION(null),
+    HUMIDITY(Measurement.RELATIVE_HUMIDITY),
+    APPARENT_TEMPERATURE(Measurement.APPARENT_TEMPERATURE),
+    WIND_SPEED(Measurement.WIND_SPEED),
+    WIND_DIRECTION(Measurement.WIND_DIRECTION),
+    PRECIPITATION(Measurement.PRECIPITATION),
+    CLOUD_COVER(Measurement.CLOUD_COVER);
+
+    /**
+     * Fields returned when the client does not select any.
+     */
+    public static final Set<WeatherField> DEFAULT = EnumSet.of(TEMPERATURE, CONDITION);
+
+    private final Measurement measurement;
+
+    WeatherField(Measurement measurement) {
+        this.measurement = measurement;
+    }
+
+    /**
+     * Parses a comma-separated field list such as {@code temperature,wind_speed}, or {@code all}.
+     *
+     * @throws IllegalArgumentException if a field is unknown
+     */
+    public static Set<WeatherField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return DEFAULT;
+        }
+        if (fields.strip().equalsIgnoreCase("all")) {
+            return EnumSet.allOf(WeatherField.class);
+        }
+        Set<WeatherField> selected = EnumSet.noneOf(WeatherField.class);
+        for (String name : fields.split(",")) {
+            try {
+                selected.add(valueOf(name.strip().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown field: " + name.strip(), e);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Returns the optional measurements needed to answer the given fields.
+     */
+    public static Set<Measurement> measurements(Set<WeatherField> fields) {
+        Set<Measurement> measurements = EnumSet.noneOf(Measurement.class);
+        for (WeatherField field : fields) {
+            if (field.measurement != null) {
+                measurements.add(field.measurement);
+            }
+        }
+        return measurements;
+    }
+}
@@ -1,20 +1,49 @@
 package io.github.hexagonal.weather.adapter.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.Set;
+
 /**
  * REST response DTO for weather information.
+ * Fields the client did not select are null and left out of the JSON.
  */
 public record WeatherResponse(
     @JsonProperty("location") LocationDto location,
-    @JsonProperty("temperature_celsius") double temperatureCelsius,
-    @JsonProperty("condition") String condition,
-    @JsonProperty("condition_description") String conditionDescription,
-    @JsonProperty("timestamp") String timestamp
+    @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("temperature_celsius") Double temperatureCelsius,
+    @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("condition") String condition,
+    @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("condition_description") String conditionDescription,
+    @JsonProperty("timestamp") String timestamp,
+    @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("relative_humidity_percent") Double relativeHumidityPercent,
+    @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("apparent_temperature_celsius") Double apparentTemperatureCelsius,
+    @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("wind_speed_kmh") Double windSpeedKmh,
+    @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("wind_direction_degrees") Double windDirectionDegrees,
+    @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("precipitation_mm") Double precipitationMm,
+    @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("cloud_cover_percent") Double cloudCoverPercent
 ) {
     public record LocationDto(
         @JsonProperty("latitude") double latitude,
         @JsonProperty("longitude") double longitude,
         @JsonProperty("city_name") String cityName
     ) {}
-}
\ No newline at end of file
+
+    /**
+     * Keeps only the selected fields.
+     */
+    public WeatherResponse project(Set<WeatherField> fields) {
+        return new WeatherResponse(
+            location,
+            fields.contains(WeatherField.TEMPERATURE) ? temperatureCelsius : null,
+            fields.contains(WeatherField.CONDITION) ? condition : null,
+            fields.contains(WeatherField.CONDITION) ? conditionDescription : null,
+            timestamp,
+            fields.contains(WeatherField.HUMIDITY) ? relativeHumidityPercent : null,
+            fields.contains(WeatherField.APPARENT_TEMPERATURE) ? apparentTemperatureCelsius : null,
+            fields.contains(WeatherField.WIND_SPEED) ? windSpeedKmh : null,
+            fields.contains(WeatherField.WIND_DIRECTION) ? windDirectionDegrees : null,
+            fields.contains(WeatherField.PRECIPITATION) ? precipitationMm : null,
+            fields.contains(WeatherField.CLOUD_COVER) ? cloudCoverPercent : null
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.hexagonal.weather.adapter.rest.mapper;
+
+import io.github.hexagonal.weather.adapter.rest.dto.CityResponse;
+import io.github.hexagonal.weather.model.City;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for converting cities to REST DTOs.
+ */
+@Mapper(componentModel = "jakarta")
+public interface CityRestMapper {
+
+    CityResponse toResponse(City city);
+
+    List<CityResponse> toResponses(List<City> cities);
+}
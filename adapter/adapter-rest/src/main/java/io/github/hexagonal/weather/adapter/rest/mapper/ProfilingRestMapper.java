@@ -0,0 +1,41 @@
+package io.github.hexagonal.weather.adapter.rest.mapper;
+
+import io.github.hexagonal.weather.adapter.rest.dto.ProfilingSummaryResponse;
+import io.github.hexagonal.weather.adapter.rest.profiling.LatencyHistogram;
+import io.github.hexagonal.weather.adapter.rest.profiling.RecordingSummary;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MapStruct mapper for converting recording summaries to REST DTOs.
+ */
+@Mapper(componentModel = "jakarta")
+public interface ProfilingRestMapper {
+
+    @Mapping(target = "windowMinutes", expression = "java(summary.window().toMinutes())")
+    @Mapping(target = "stages", expression = "java(toStages(summary.stages()))")
+    ProfilingSummaryResponse toResponse(RecordingSummary summary);
+
+    List<ProfilingSummaryResponse.StageDto> toStages(Iterable<RecordingSummary.Stage> stages);
+
+    @Mapping(target = "stage", source = "label")
+    @Mapping(target = "count", expression = "java(stage.histogram().count())")
+    @Mapping(target = "meanMillis", expression = "java(stage.histogram().meanMillis())")
+    @Mapping(target = "p50Millis", expression = "java(stage.histogram().quantileMillis(0.5))")
+    @Mapping(target = "p90Millis", expression = "java(stage.histogram().quantileMillis(0.9))")
+    @Mapping(target = "p99Millis", expression = "java(stage.histogram().quantileMillis(0.99))")
+    @Mapping(target = "maxMillis", expression = "java(stage.histogram().maxMillis())")
+    ProfilingSummaryResponse.StageDto toStage(RecordingSummary.Stage stage);
+
+    default List<ProfilingSummaryResponse.BucketDto> toHistogram(LatencyHistogram histogram) {
+        long[] counts = histogram.bucketCounts();
+        List<ProfilingSummaryResponse.BucketDto> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            buckets.add(new ProfilingSummaryResponse.BucketDto(LatencyHistogram.bucketBoundMillis(i), counts[i]));
+        }
+        return buckets;
+    }
+}
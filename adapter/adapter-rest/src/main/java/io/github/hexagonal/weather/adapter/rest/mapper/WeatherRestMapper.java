@@ -1,14 +1,18 @@
 package io.github.hexagonal.weather.adapter.rest.mapper;
 
+import io.github.hexagonal.weather.adapter.rest.dto.WeatherField;
 import io.github.hexagonal.weather.adapter.rest.dto.WeatherResponse;
+import io.github.hexagonal.weather.model.Measurement;
 import io.github.hexagonal.weather.model.Weather;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.Set;
+
 /**
  * MapStruct mapper for converting domain models to REST DTOs.
  */
-@Mapper(componentModel = "jakarta")
+@Mapper(componentModel = "jakarta", imports = Measurement.class)
 public interface WeatherRestMapper {
 
     @Mapping(target = "temperatureCelsius", source = "temperature")
@@ -18,5 +22,21 @@ public interface WeatherRestMapper {
     @Mapping(target = "location.latitude", source = "location.latitude")
     @Mapping(target = "location.longitude", source = "location.longitude")
     @Mapping(target = "location.cityName", source = "location.cityName")
+    @Mapping(target = "relativeHumidityPercent",
+        expression = "java(weather.measurement(Measurement.RELATIVE_HUMIDITY).orElse(null))")
+    @Mapping(target = "apparentTemperatureCelsius",
+        expression = "java(weather.measurement(Measurement.APPARENT_TEMPERATURE).orElse(null))")
+    @Mapping(target = "windSpeedKmh", expression = "java(weather.measurement(Measurement.WIND_SPEED).orElse(null))")
+    @Mapping(target = "windDirectionDegrees",
+        expression = "java(weather.measurement(Measurement.WIND_DIRECTION).orElse(null))")
+    @Mapping(target = "precipitationMm", expression = "java(weather.measurement(Measurement.PRECIPITATION).orElse(null))")
+    @Mapping(target = "cloudCoverPercent", expression = "java(weather.measurement(Measurement.CLOUD_COVER).orElse(null))")
     WeatherResponse toResponse(Weather weather);
-}
\ No newline at end of file
+
+    /**
+     * Maps weather to a response holding only the selected fields.
+     */
+    default WeatherResponse toResponse(Weather weather, Set<WeatherField> fields) {
+        return toResponse(weather).project(fields);
+    }
+}
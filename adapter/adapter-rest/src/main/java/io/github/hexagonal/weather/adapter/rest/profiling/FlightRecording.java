@@ -0,0 +1,155 @@
+package io.github.hexagonal.weather.adapter.rest.profiling;
+
+import io.github.hexagonal.weather.adapter.rest.config.ProfilingConfig;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.jbosslog.JBossLog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Continuous Flight Recorder recording of the service's stage events.
+ * <p>
+ * The recording only enables the service's own events (use case invocation, upstream fetch,
+ * response mapping), and keeps them in a ring buffer bounded by {@code max-age} and {@code max-size}.
+ * Each committed event costs about 150 ns, so a request pays about 0.5 µs, under 0.1% of even
+ * a loopback request without upstream call ({@code ProfilingOverheadBenchmark}). Dumps and summaries are computed from a
+ * snapshot, filtered to the requested window.
+ */
+@ApplicationScoped
+@JBossLog
+public class FlightRecording {
+
+    static final String EVENT_PREFIX = "io.github.hexagonal.weather.";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+        DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+    private static final Pattern DUMP_FILE = Pattern.compile("weather-\\d{8}-\\d{6}-\\d{3}\\.jfr");
+
+    private final ProfilingConfig config;
+    private volatile Recording recording;
+
+    @Inject
+    public FlightRecording(ProfilingConfig config) {
+        this.config = config;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!config.enabled()) {
+            return;
+        }
+        Recording continuous = new Recording();
+        continuous.setName("weather-service");
+        continuous.setToDisk(true);
+        continuous.setMaxAge(config.maxAge());
+        continuous.setMaxSize(config.maxSize());
+        continuous.start();
+        recording = continuous;
+        log.infof("Continuous profiling started: max-age=%s, max-size=%d bytes", config.maxAge(), config.maxSize());
+        if (config.adminToken().filter(token -> !token.isBlank()).isEmpty()) {
+            log.info("No weather.profiling.admin-token configured; the /admin/profiling endpoints are disabled");
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        Recording continuous = recording;
+        recording = null;
+        if (continuous != null) {
+            continuous.close();
+        }
+    }
+
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    /**
+     * Caps a requested window to the history the recording keeps.
+     */
+    public Duration window(Duration requested) {
+        return requested.compareTo(config.maxAge()) > 0 ? config.maxAge() : requested;
+    }
+
+    /**
+     * Writes the events of the last {@code window} to a new .jfr file in the dump directory,
+     * then deletes the oldest dumps beyond {@code max-dumps}.
+     *
+     * @return The written file
+     */
+    public Path dump(Duration window) throws IOException {
+        Path directory = config.dumpDirectory().orElseGet(() -> Path.of(System.getProperty("java.io.tmpdir")));
+        Files.createDirectories(directory);
+        Path target = directory.resolve("weather-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+
+        Instant cutoff = Instant.now().minus(window);
+        Path snapshot = snapshot();
+        try (RecordingFile file = new RecordingFile(snapshot)) {
+            file.write(target, event -> !event.getEndTime().isBefore(cutoff));
+        } finally {
+            Files.deleteIfExists(snapshot);
+        }
+        log.infof("Dumped last %s of the recording to %s", window, target);
+        deleteOldDumps(directory);
+        return target;
+    }
+
+    /**
+     * Computes per-stage latency histograms over the last {@code window}.
+     */
+    public RecordingSummary summarize(Duration window) throws IOException {
+        RecordingSummary summary = new RecordingSummary(window);
+        Instant cutoff = Instant.now().minus(window);
+        Path snapshot = snapshot();
+        try (RecordingFile file = new RecordingFile(snapshot)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (event.getEventType().getName().startsWith(EVENT_PREFIX) && !event.getEndTime().isBefore(cutoff)) {
+                    summary.add(event);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(snapshot);
+        }
+        return summary;
+    }
+
+    private void deleteOldDumps(Path directory) throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(directory)) {
+            // File names start with the UTC timestamp, so they sort from oldest to newest
+            dumps = files.filter(file -> DUMP_FILE.matcher(file.getFileName().toString()).matches())
+                .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                .toList();
+        }
+        for (Path old : dumps.subList(0, Math.max(0, dumps.size() - config.maxDumps()))) {
+            Files.deleteIfExists(old);
+            log.debugf("Deleted old recording dump %s", old);
+        }
+    }
+
+    private Path snapshot() throws IOException {
+        Recording continuous = recording;
+        if (continuous == null) {
+            throw new IllegalStateException("Continuous profiling is not running");
+        }
+        Path snapshot = Files.createTempFile("weather-snapshot-", ".jfr");
+        continuous.dump(snapshot);
+        return snapshot;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.hexagonal.weather.adapter.rest.profiling;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Fixed-bucket latency histogram, from 0.1 ms to 10 s in roughly logarithmic steps.
+ * Quantiles are estimated as the upper bound of the bucket they fall in.
+ */
+public class LatencyHistogram {
+
+    static final long[] BOUNDS_MICROS = {
+        100, 250, 500,
+        1_000, 2_500, 5_000,
+        10_000, 25_000, 50_000,
+        100_000, 250_000, 500_000,
+        1_000_000, 2_500_000, 5_000_000,
+        10_000_000
+    };
+
+    private final long[] counts = new long[BOUNDS_MICROS.length + 1];
+    private long count;
+    private long totalMicros;
+    private long maxMicros;
+
+    public void record(Duration duration) {
+        long micros = duration.toNanos() / 1_000;
+        int bucket = Arrays.binarySearch(BOUNDS_MICROS, micros);
+        counts[bucket >= 0 ? bucket : -bucket - 1]++;
+        count++;
+        totalMicros += micros;
+        maxMicros = Math.max(maxMicros, micros);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double meanMillis() {
+        return count == 0 ? 0 : totalMicros / 1_000.0 / count;
+    }
+
+    public double maxMillis() {
+        return maxMicros / 1_000.0;
+    }
+
+    /**
+     * Estimates a quantile, e.g. 0.99, in milliseconds.
+     */
+    public double quantileMillis(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < BOUNDS_MICROS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(BOUNDS_MICROS[i], maxMicros) / 1_000.0;
+            }
+        }
+        return maxMillis();
+    }
+
+    /**
+     * Returns the number of samples per bucket; the last bucket holds samples above 10 s.
+     */
+    public long[] bucketCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * Returns the upper bound of a bucket in milliseconds, or null for the last, unbounded bucket.
+     */
+    public static Double bucketBoundMillis(int bucket) {
+        return bucket < BOUNDS_MICROS.length ? BOUNDS_MICROS[bucket] / 1_000.0 : null;
+    }
+}
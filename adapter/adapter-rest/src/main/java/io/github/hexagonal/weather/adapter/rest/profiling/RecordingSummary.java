@@ -0,0 +1,50 @@
+package io.github.hexagonal.weather.adapter.rest.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-stage latency histograms and outcome counts computed from recorded stage events.
+ */
+public class RecordingSummary {
+
+    private final Duration window;
+    private final Map<String, Stage> stages = new TreeMap<>();
+
+    public RecordingSummary(Duration window) {
+        this.window = window;
+    }
+
+    public Duration window() {
+        return window;
+    }
+
+    public Collection<Stage> stages() {
+        return stages.values();
+    }
+
+    void add(RecordedEvent event) {
+        Stage stage = stages.computeIfAbsent(event.getEventType().getName(),
+            name -> new Stage(name, event.getEventType().getLabel(), new LatencyHistogram(), new TreeMap<>()));
+        stage.histogram().record(event.getDuration());
+        if (event.hasField("outcome")) {
+            String outcome = event.getString("outcome");
+            stage.outcomes().merge(outcome != null ? outcome : "UNKNOWN", 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Statistics of one event type.
+     *
+     * @param event     Event type name
+     * @param label     Human-readable stage name
+     * @param histogram Durations of the stage
+     * @param outcomes  Number of events per outcome, for stages that report one
+     */
+    public record Stage(String event, String label, LatencyHistogram histogram, Map<String, Long> outcomes) {
+    }
+}
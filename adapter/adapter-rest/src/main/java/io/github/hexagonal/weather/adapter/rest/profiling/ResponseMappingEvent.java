@@ -0,0 +1,38 @@
+package io.github.hexagonal.weather.adapter.rest.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for mapping a domain result to a REST response DTO.
+ */
+@Name("io.github.hexagonal.weather.ResponseMapping")
+@Label("Response Mapping")
+@Description("Conversion of a domain result to a response DTO")
+@Category({"Weather Service", "Stages"})
+@StackTrace(false)
+public class ResponseMappingEvent extends Event {
+
+    @Label("Response Type")
+    public String responseType;
+
+    /**
+     * Starts timing a mapping; finish it with {@link #finish()}.
+     */
+    public static ResponseMappingEvent start(String responseType) {
+        ResponseMappingEvent event = new ResponseMappingEvent();
+        event.responseType = responseType;
+        event.begin();
+        return event;
+    }
+
+    public void finish() {
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
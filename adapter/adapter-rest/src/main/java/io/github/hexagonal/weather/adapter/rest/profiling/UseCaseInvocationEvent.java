@@ -0,0 +1,52 @@
+package io.github.hexagonal.weather.adapter.rest.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one use case invocation, as seen from the REST adapter.
+ */
+@Name("io.github.hexagonal.weather.UseCaseInvocation")
+@Label("Use Case Invocation")
+@Description("Call from a controller into an incoming port")
+@Category({"Weather Service", "Stages"})
+@StackTrace(false)
+public class UseCaseInvocationEvent extends Event {
+
+    @Label("Use Case")
+    public String useCase;
+
+    @Label("Outcome")
+    @Description("OK, or the simple name of the exception thrown")
+    public String outcome;
+
+    /**
+     * Starts timing an invocation of the use case.
+     * Finish it with {@link #succeeded()} or {@link #failed(RuntimeException)}.
+     */
+    public static UseCaseInvocationEvent start(String useCase) {
+        UseCaseInvocationEvent event = new UseCaseInvocationEvent();
+        event.useCase = useCase;
+        event.begin();
+        return event;
+    }
+
+    public void succeeded() {
+        finish("OK");
+    }
+
+    public void failed(RuntimeException e) {
+        finish(e.getClass().getSimpleName());
+    }
+
+    private void finish(String outcome) {
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
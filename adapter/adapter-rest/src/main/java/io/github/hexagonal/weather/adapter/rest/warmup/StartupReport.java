@@ -0,0 +1,30 @@
+package io.github.hexagonal.weather.adapter.rest.warmup;
+
+import java.time.Duration;
+
+/**
+ * Timings of the startup phases.
+ *
+ * @param boot           From JVM start until the HTTP server listens
+ * @param warmUp         Duration of the warm-up
+ * @param requests       Warm-up lookups sent
+ * @param failed         Warm-up lookups that did not succeed
+ * @param firstBatchRate Warm-up lookups per second in the first tenth of the warm-up
+ * @param lastBatchRate  Warm-up lookups per second in the last tenth of the warm-up
+ */
+public record StartupReport(
+    Duration boot,
+    Duration warmUp,
+    int requests,
+    int failed,
+    double firstBatchRate,
+    double lastBatchRate
+) {
+
+    /**
+     * Time from JVM start until the service reports ready.
+     */
+    public Duration ready() {
+        return boot.plus(warmUp);
+    }
+}
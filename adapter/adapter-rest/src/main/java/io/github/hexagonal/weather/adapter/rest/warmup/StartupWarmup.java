@@ -0,0 +1,235 @@
+package io.github.hexagonal.weather.adapter.rest.warmup;
+
+import io.github.hexagonal.weather.adapter.rest.config.WarmupConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.quarkus.vertx.http.HttpServerStart;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Inject;
+import lombok.extern.jbosslog.JBossLog;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms up the service before it reports ready.
+ * <p>
+ * Until the JIT has compiled the request path, the first few thousand requests are several times
+ * slower. Once the HTTP server listens, synthetic lookups are sent over loopback to
+ * {@link WarmupWeatherController}, which runs the controller, use case, mappers and JSON
+ * serialization against a locally generated upstream. Readiness stays down until the configured
+ * number of lookups is done or {@code max-duration} has passed. The startup phase timings are
+ * logged and exported as {@code weather.startup.*} metrics, with the warm-up throughput at the
+ * start and at the end to show whether peak throughput was reached. The report is then fired as
+ * a CDI event, so whatever only served the warm-up can be released.
+ */
+@ApplicationScoped
+@JBossLog
+public class StartupWarmup {
+
+    private static final int BATCHES = 10;
+    private static final String[] FIELDS = {
+        "", "all", "temperature,wind_speed", "humidity,apparent_temperature", "precipitation,cloud_cover,wind_direction"
+    };
+    private static final String[] CITIES = {"Brussels", "Antwerp", "Ghent", "Charleroi"};
+
+    private final WarmupConfig config;
+    private final MeterRegistry registry;
+    private final Event<StartupReport> completedEvent;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicInteger completed = new AtomicInteger();
+    private volatile boolean running;
+    private volatile URI serverUri;
+    private volatile StartupReport report;
+
+    @Inject
+    public StartupWarmup(WarmupConfig config, MeterRegistry registry, Event<StartupReport> completedEvent) {
+        this.config = config;
+        this.registry = registry;
+        this.completedEvent = completedEvent;
+    }
+
+    void onHttpStart(@ObservesAsync HttpServerStart event) {
+        if (event.options().isSsl() || !started.compareAndSet(false, true)) {
+            return;
+        }
+        Duration boot = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+        if (!config.enabled()) {
+            complete(new StartupReport(boot, Duration.ZERO, 0, 0, 0, 0));
+            return;
+        }
+        serverUri = serverUri(event.options().getHost(), event.options().getPort());
+        running = true;
+        Thread.ofPlatform().name("warm-up").daemon().start(() -> run(boot));
+    }
+
+    /**
+     * Whether warm-up lookups are being sent.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Base URI of this instance's HTTP server as bound, or {@code null} before it listens.
+     */
+    public URI serverUri() {
+        return serverUri;
+    }
+
+    /**
+     * Warm-up lookups done so far.
+     */
+    public int completed() {
+        return completed.get();
+    }
+
+    /**
+     * The startup timings, or {@code null} while the warm-up is still running.
+     */
+    public StartupReport report() {
+        return report;
+    }
+
+    private void run(Duration boot) {
+        int requests = config.requests();
+        int batchSize = Math.max(1, requests / BATCHES);
+        long[] batchEnds = new long[BATCHES];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        log.infof("Warming up with %d lookups (%d concurrent)", requests, config.concurrency());
+
+        long start = System.nanoTime();
+        long deadline = start + config.maxDuration().toNanos();
+        HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < config.concurrency(); worker++) {
+                workers.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < requests && System.nanoTime() < deadline) {
+                        if (!send(http, i)) {
+                            failed.incrementAndGet();
+                        }
+                        int done = completed.incrementAndGet();
+                        if (done % batchSize == 0 && done / batchSize <= BATCHES) {
+                            batchEnds[done / batchSize - 1] = System.nanoTime();
+                        }
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            log.warn("Warm-up failed, reporting ready anyway", e);
+        } finally {
+            http.close();
+        }
+        long end = System.nanoTime();
+
+        int done = completed.get();
+        if (done < requests) {
+            log.warnf("Warm-up stopped after %s with %d of %d lookups done", config.maxDuration(), done, requests);
+        }
+        int batches = Math.min(done / batchSize, BATCHES);
+        double firstRate = batches > 0 ? rate(batchSize, start, batchEnds[0]) : rate(done, start, end);
+        double lastRate = batches > 1 ? rate(batchSize, batchEnds[batches - 2], batchEnds[batches - 1]) : firstRate;
+        complete(new StartupReport(boot, Duration.ofNanos(end - start), done, failed.get(), firstRate, lastRate));
+    }
+
+    private boolean send(HttpClient http, int i) {
+        HttpRequest request = HttpRequest.newBuilder(
+                serverUri.resolve(WarmupWeatherController.PATH + "?" + query(i)))
+            .timeout(Duration.ofSeconds(10))
+            .GET()
+            .build();
+        try {
+            int status = http.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+            if (status != 200) {
+                log.debugf("Warm-up lookup %d answered %d", i, status);
+            }
+            return status == 200;
+        } catch (IOException e) {
+            log.debugf("Warm-up lookup %d failed: %s", i, e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * The URI to reach a server bound to the given host and port, using loopback if it listens on all interfaces.
+     */
+    static URI serverUri(String host, int port) {
+        String target = host;
+        try {
+            if (InetAddress.getByName(host).isAnyLocalAddress()) {
+                target = InetAddress.getLoopbackAddress().getHostAddress();
+            }
+        } catch (UnknownHostException e) {
+            log.debugf("Unable to resolve HTTP host %s: %s", host, e.getMessage());
+        }
+        return URI.create("http://" + (target.contains(":") ? "[" + target + "]" : target) + ":" + port);
+    }
+
+    /**
+     * Spreads the lookups over the globe and over the field selections, with the odd city lookup.
+     */
+    static String query(int i) {
+        String fields = FIELDS[i % FIELDS.length];
+        String place = i % 16 == 15
+            ? "city=" + CITIES[i / 16 % CITIES.length]
+            : String.format(Locale.ROOT, "lat=%.4f&lon=%.4f", -60 + i * 7.31 % 130, -180 + i * 13.7 % 360);
+        return fields.isEmpty() ? place : place + "&fields=" + fields;
+    }
+
+    private static double rate(int lookups, long fromNanos, long toNanos) {
+        return toNanos > fromNanos ? lookups * 1e9 / (toNanos - fromNanos) : 0;
+    }
+
+    private void complete(StartupReport startup) {
+        report = startup;
+        running = false;
+        try {
+            completedEvent.fire(startup);
+        } catch (RuntimeException e) {
+            log.warn("Unable to release the warm-up resources", e);
+        }
+        TimeGauge.builder("weather.startup.duration", startup, TimeUnit.MILLISECONDS, r -> r.boot().toMillis())
+            .tag("phase", "boot").register(registry);
+        TimeGauge.builder("weather.startup.duration", startup, TimeUnit.MILLISECONDS, r -> r.warmUp().toMillis())
+            .tag("phase", "warm-up").register(registry);
+        TimeGauge.builder("weather.startup.duration", startup, TimeUnit.MILLISECONDS, r -> r.ready().toMillis())
+            .tag("phase", "ready").register(registry);
+        Gauge.builder("weather.startup.warmup.throughput", startup, StartupReport::firstBatchRate)
+            .tag("batch", "first").register(registry);
+        Gauge.builder("weather.startup.warmup.throughput", startup, StartupReport::lastBatchRate)
+            .tag("batch", "last").register(registry);
+
+        if (!config.enabled()) {
+            log.infof("Startup phases: boot %d ms, warm-up disabled", startup.boot().toMillis());
+            return;
+        }
+        log.infof("Startup phases: boot %d ms, warm-up %d ms (%d lookups, %d failed, %.0f/s at start, %.0f/s at end),"
+                + " ready %d ms after JVM start",
+            startup.boot().toMillis(), startup.warmUp().toMillis(), startup.requests(), startup.failed(),
+            startup.firstBatchRate(), startup.lastBatchRate(), startup.ready().toMillis());
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.hexagonal.weather.adapter.rest.warmup;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Reports the service as ready only once the warm-up is done.
+ */
+@Readiness
+@ApplicationScoped
+public class WarmupReadinessCheck implements HealthCheck {
+
+    private final StartupWarmup warmup;
+
+    @Inject
+    public WarmupReadinessCheck(StartupWarmup warmup) {
+        this.warmup = warmup;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        StartupReport report = warmup.report();
+        if (report == null) {
+            return HealthCheckResponse.named("warm-up")
+                .down()
+                .withData("lookups", warmup.completed())
+                .build();
+        }
+        return HealthCheckResponse.named("warm-up")
+            .up()
+            .withData("lookups", report.requests())
+            .withData("failed", report.failed())
+            .withData("boot_ms", report.boot().toMillis())
+            .withData("warm_up_ms", report.warmUp().toMillis())
+            .withData("ready_ms", report.ready().toMillis())
+            .build();
+    }
+}
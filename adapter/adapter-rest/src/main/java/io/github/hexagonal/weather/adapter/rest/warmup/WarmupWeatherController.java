@@ -0,0 +1,60 @@
+package io.github.hexagonal.weather.adapter.rest.warmup;
+
+import io.github.hexagonal.weather.adapter.rest.ApiKeys;
+import io.github.hexagonal.weather.adapter.rest.WeatherController;
+import io.github.hexagonal.weather.adapter.rest.config.ClientConfig;
+import io.github.hexagonal.weather.adapter.rest.config.RequestConfig;
+import io.github.hexagonal.weather.adapter.rest.dto.WeatherResponse;
+import io.github.hexagonal.weather.adapter.rest.mapper.WeatherRestMapper;
+import io.github.hexagonal.weather.application.port.in.FindCityUseCase;
+import io.github.hexagonal.weather.application.port.in.GetWeatherUseCase;
+import io.vertx.core.http.HttpServerResponse;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import org.jboss.logging.Logger;
+
+/**
+ * The weather endpoint on top of the warm-up use case, which looks up generated weather.
+ * Runs the same controller, mapping and serialization code as {@code /weather}, and only
+ * answers while the warm-up is running. Requests are logged at {@code DEBUG}.
+ */
+@Path(WarmupWeatherController.PATH)
+@Produces(MediaType.APPLICATION_JSON)
+public class WarmupWeatherController extends WeatherController {
+
+    static final String PATH = "/internal/warmup/weather";
+
+    private final StartupWarmup warmup;
+
+    @Inject
+    public WarmupWeatherController(@Warmup GetWeatherUseCase getWeatherUseCase, FindCityUseCase findCityUseCase,
+                                   WeatherRestMapper mapper, RequestConfig requestConfig, ApiKeys apiKeys,
+                                   StartupWarmup warmup) {
+        super(getWeatherUseCase, findCityUseCase, mapper, requestConfig, apiKeys, Logger.Level.DEBUG);
+        this.warmup = warmup;
+    }
+
+    @GET
+    @Override
+    public WeatherResponse getWeather(
+        @QueryParam("lat") Double latitude,
+        @QueryParam("lon") Double longitude,
+        @QueryParam("city") String cityName,
+        @QueryParam("fields") String fields,
+        @HeaderParam(RequestConfig.TIMEOUT_HEADER) Long timeoutMillis,
+        @HeaderParam(ClientConfig.API_KEY_HEADER) String apiKey,
+        @Context HttpServerResponse response
+    ) {
+        if (!warmup.isRunning()) {
+            throw new NotFoundException();
+        }
+        return super.getWeather(latitude, longitude, cityName, fields, timeoutMillis, apiKey, response);
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.hexagonal.weather.adapter.rest;
+
+import io.github.hexagonal.weather.model.ClientId;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ApiKeys.
+ */
+class ApiKeysTest {
+
+    @Test
+    void shouldIdentifyClientsByAnyOfTheirKeys() {
+        // Given
+        ApiKeys apiKeys = new ApiKeys(Map.of(
+            "reporting", List.of("old-key", "new-key"),
+            "mobile", List.of("mobile-key")
+        ));
+
+        // Then
+        assertEquals(new ClientId("reporting"), apiKeys.identify("old-key"));
+        assertEquals(new ClientId("reporting"), apiKeys.identify("new-key"));
+        assertEquals(new ClientId("mobile"), apiKeys.identify("mobile-key"));
+    }
+
+    @Test
+    void shouldTreatMissingOrUnknownKeysAsAnonymous() {
+        // Given
+        ApiKeys apiKeys = new ApiKeys(Map.of("reporting", List.of("key")));
+
+        // Then
+        assertEquals(ClientId.ANONYMOUS, apiKeys.identify(null));
+        assertEquals(ClientId.ANONYMOUS, apiKeys.identify(" "));
+        assertEquals(ClientId.ANONYMOUS, apiKeys.identify("guess"));
+    }
+
+    @Test
+    void shouldRejectKeySharedByTwoClients() {
+        assertThrows(IllegalArgumentException.class, () -> new ApiKeys(Map.of(
+            "reporting", List.of("key"),
+            "mobile", List.of("key")
+        )));
+    }
+}
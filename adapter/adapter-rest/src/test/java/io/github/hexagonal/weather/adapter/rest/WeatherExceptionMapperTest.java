@@ -0,0 +1,57 @@
+package io.github.hexagonal.weather.adapter.rest;
+
+import io.github.hexagonal.weather.model.DeadlineExceededException;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.RequestCancelledException;
+import io.github.hexagonal.weather.model.WeatherNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WeatherExceptionMapper.
+ */
+class WeatherExceptionMapperTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final WeatherExceptionMapper mapper = new WeatherExceptionMapper(registry);
+
+    @Test
+    void shouldAnswerGatewayTimeoutWhenDeadlineExceeded() {
+        // When
+        Response response = mapper.mapDeadlineExceeded(new DeadlineExceededException("Request deadline exceeded"));
+
+        // Then
+        assertEquals(504, response.getStatus());
+        assertEquals(1, abortedRequests("expired"));
+        assertEquals(0, abortedRequests("cancelled"));
+    }
+
+    @Test
+    void shouldAnswerClientClosedRequestWhenCancelled() {
+        // When
+        Response response = mapper.mapRequestCancelled(new RequestCancelledException("Request was cancelled"));
+
+        // Then
+        assertEquals(499, response.getStatus());
+        assertEquals(1, abortedRequests("cancelled"));
+        assertEquals(0, abortedRequests("expired"));
+    }
+
+    @Test
+    void shouldAnswerBadGatewayWithoutCountingAbortWhenUpstreamFails() {
+        // When
+        Response response = mapper.mapWeatherNotFound(new WeatherNotFoundException(new Location(50.8503, 4.3517)));
+
+        // Then
+        assertEquals(502, response.getStatus());
+        assertEquals(0, abortedRequests("expired"));
+        assertEquals(0, abortedRequests("cancelled"));
+    }
+
+    private double abortedRequests(String reason) {
+        return registry.get("weather.requests.aborted").tag("reason", reason).counter().count();
+    }
+}
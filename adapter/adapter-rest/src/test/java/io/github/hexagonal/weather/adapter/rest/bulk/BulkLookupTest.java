@@ -0,0 +1,134 @@
+package io.github.hexagonal.weather.adapter.rest.bulk;
+
+import io.github.hexagonal.weather.application.port.in.GetWeatherUseCase;
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherCondition;
+import io.github.hexagonal.weather.model.WeatherNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BulkLookup.
+ */
+class BulkLookupTest {
+
+    @Test
+    void shouldWriteResultsInInputOrderWhenLookupsFinishOutOfOrder() throws IOException {
+        // Given - earlier rows take longer, so they finish last
+        BulkLookup bulkLookup = bulkLookup(4, location -> {
+            sleep((long) (20 - location.latitude()));
+            return weather(location);
+        });
+
+        // When
+        RecordingSink sink = new RecordingSink();
+        BulkLookup.Summary summary = bulkLookup.run(csv(20), Set.of(), ClientId.ANONYMOUS, sink);
+
+        // Then
+        assertEquals(20, summary.rows());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i + 1, sink.lines.get(i));
+        }
+    }
+
+    @Test
+    void shouldNotRunMoreLookupsThanParallelism() throws IOException {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        BulkLookup bulkLookup = bulkLookup(3, location -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(2);
+            running.decrementAndGet();
+            return weather(location);
+        });
+
+        // When
+        bulkLookup.run(csv(60), Set.of(), ClientId.ANONYMOUS, new RecordingSink());
+
+        // Then
+        assertTrue(maxRunning.get() <= 3, "at most 3 lookups in flight, was " + maxRunning.get());
+    }
+
+    @Test
+    void shouldReportFailedAndInvalidRowsInline() throws IOException {
+        // Given
+        BulkLookup bulkLookup = bulkLookup(2, location -> {
+            if (location.latitude() == 2) {
+                throw new WeatherNotFoundException(location);
+            }
+            return weather(location);
+        });
+        BulkRowReader rows = new CsvRowReader(
+            new ByteArrayInputStream("1,0\n2,0\n100,0\n4,0\n".getBytes(StandardCharsets.UTF_8)), 4096);
+
+        // When
+        RecordingSink sink = new RecordingSink();
+        BulkLookup.Summary summary = bulkLookup.run(rows, Set.of(), ClientId.ANONYMOUS, sink);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L), sink.lines);
+        assertNull(sink.errors.get(0));
+        assertNotNull(sink.errors.get(1));
+        assertEquals("Coordinates out of range", sink.errors.get(2));
+        assertNull(sink.errors.get(3));
+        assertEquals(4, summary.rows());
+        assertEquals(1, summary.failed());
+        assertEquals(1, summary.invalid());
+    }
+
+    private static BulkLookup bulkLookup(int parallelism, Function<Location, Weather> lookup) {
+        GetWeatherUseCase useCase = query -> lookup.apply(query.location());
+        return new BulkLookup(useCase, parallelism, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    }
+
+    private static BulkRowReader csv(int rows) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= rows; i++) {
+            body.append(i).append(",4.35\n");
+        }
+        return new CsvRowReader(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)), 4096);
+    }
+
+    private static Weather weather(Location location) {
+        return new Weather(location, 18.5, WeatherCondition.CLEAR, Instant.now());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingSink implements BulkLookup.Sink {
+        final List<Long> lines = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void write(BulkRow row, Weather weather, String error) {
+            lines.add(row.line());
+            errors.add(error);
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.hexagonal.weather.adapter.rest.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NDJSON and CSV bulk row readers.
+ */
+class BulkRowReaderTest {
+
+    @Test
+    void shouldReadNdjsonRowsAndReportInvalidLines() throws IOException {
+        // Given
+        String body = """
+            {"id":"a","lat":50.85,"lon":4.35}
+
+            not json
+            {"id":"b","lat":50.85}
+            {"id":"c","lat":95,"lon":4.35}
+            {"id":7,"latitude":51.2,"longitude":4.4,"extra":true}""";
+
+        // When
+        List<BulkRow> rows = readAll(new NdjsonRowReader(stream(body), 4096, new ObjectMapper()));
+
+        // Then
+        assertEquals(5, rows.size());
+        assertEquals(1, rows.get(0).line());
+        assertEquals("a", rows.get(0).id());
+        assertEquals(50.85, rows.get(0).location().latitude());
+        assertEquals("Invalid JSON", rows.get(1).error());
+        assertEquals(3, rows.get(1).line());
+        assertEquals("Expected lat and lon", rows.get(2).error());
+        assertEquals("b", rows.get(2).id());
+        assertEquals("Coordinates out of range", rows.get(3).error());
+        assertEquals("7", rows.get(4).id());
+        assertEquals(4.4, rows.get(4).location().longitude());
+        assertEquals(6, rows.get(4).line());
+    }
+
+    @Test
+    void shouldReadCsvWithOrWithoutHeader() throws IOException {
+        // When
+        List<BulkRow> plain = readAll(new CsvRowReader(stream("50.85,4.35,a\n51.2,abc\n"), 4096));
+        List<BulkRow> withHeader = readAll(new CsvRowReader(stream("id,name,lon,lat\nb,Ghent,3.72,51.05\n"), 4096));
+
+        // Then
+        assertEquals(2, plain.size());
+        assertEquals("a", plain.get(0).id());
+        assertEquals(4.35, plain.get(0).location().longitude());
+        assertEquals("Invalid coordinates", plain.get(1).error());
+
+        assertEquals(1, withHeader.size());
+        assertEquals(2, withHeader.get(0).line());
+        assertEquals("b", withHeader.get(0).id());
+        assertEquals(51.05, withHeader.get(0).location().latitude());
+        assertEquals(3.72, withHeader.get(0).location().longitude());
+    }
+
+    @Test
+    void shouldSkipOverlongLinesWithoutBufferingThem() throws IOException {
+        // Given
+        String body = "50.0," + "1".repeat(100_000) + "\n51.0,4.0\n";
+
+        // When
+        List<BulkRow> rows = readAll(new CsvRowReader(stream(body), 64));
+
+        // Then
+        assertEquals(2, rows.size());
+        assertFalse(rows.get(0).isValid());
+        assertEquals("Line longer than 64 characters", rows.get(0).error());
+        assertEquals(2, rows.get(1).line());
+        assertEquals(51.0, rows.get(1).location().latitude());
+    }
+
+    private static List<BulkRow> readAll(BulkRowReader reader) throws IOException {
+        List<BulkRow> rows = new ArrayList<>();
+        for (BulkRow row = reader.next(); row != null; row = reader.next()) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.hexagonal.weather.adapter.rest.dto;
+
+import io.github.hexagonal.weather.model.Measurement;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WeatherField.
+ */
+class WeatherFieldTest {
+
+    @Test
+    void shouldReturnDefaultFieldsWhenNoneSelected() {
+        // When / Then
+        assertEquals(WeatherField.DEFAULT, WeatherField.parse(null));
+        assertEquals(WeatherField.DEFAULT, WeatherField.parse(" "));
+    }
+
+    @Test
+    void shouldParseMixedCaseFieldNames() {
+        // When
+        Set<WeatherField> fields = WeatherField.parse("Temperature, WIND_speed ,cloud_cover");
+
+        // Then
+        assertEquals(EnumSet.of(WeatherField.TEMPERATURE, WeatherField.WIND_SPEED, WeatherField.CLOUD_COVER), fields);
+    }
+
+    @Test
+    void shouldSelectEveryFieldForAll() {
+        // When / Then
+        assertEquals(EnumSet.allOf(WeatherField.class), WeatherField.parse(" ALL "));
+    }
+
+    @Test
+    void shouldRejectUnknownField() {
+        // When
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> WeatherField.parse("temperature, snow_depth"));
+
+        // Then
+        assertEquals("Unknown field: snow_depth", e.getMessage());
+    }
+
+    @Test
+    void shouldOnlyNeedMeasurementsForOptionalFields() {
+        // When
+        Set<Measurement> measurements = WeatherField.measurements(
+            EnumSet.of(WeatherField.TEMPERATURE, WeatherField.CONDITION, WeatherField.HUMIDITY));
+
+        // Then
+        assertEquals(Set.of(Measurement.RELATIVE_HUMIDITY), measurements);
+    }
+}
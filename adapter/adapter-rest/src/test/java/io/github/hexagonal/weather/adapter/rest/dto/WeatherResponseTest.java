@@ -0,0 +1,59 @@
+package io.github.hexagonal.weather.adapter.rest.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WeatherResponse.
+ */
+class WeatherResponseTest {
+
+    private final WeatherResponse full = new WeatherResponse(
+        new WeatherResponse.LocationDto(50.8503, 4.3517, "Brussels"),
+        18.5, "PARTLY_CLOUDY", "Partly cloudy", "2025-09-30T12:45:00Z",
+        70.0, 17.0, 12.0, 240.0, 0.2, 55.0
+    );
+
+    @Test
+    void shouldKeepOnlySelectedFields() {
+        // When
+        WeatherResponse projected = full.project(EnumSet.of(WeatherField.CONDITION, WeatherField.WIND_SPEED));
+
+        // Then
+        assertEquals(full.location(), projected.location());
+        assertEquals(full.timestamp(), projected.timestamp());
+        assertEquals("PARTLY_CLOUDY", projected.condition());
+        assertEquals("Partly cloudy", projected.conditionDescription());
+        assertEquals(12.0, projected.windSpeedKmh());
+        assertNull(projected.temperatureCelsius());
+        assertNull(projected.relativeHumidityPercent());
+        assertNull(projected.apparentTemperatureCelsius());
+        assertNull(projected.windDirectionDegrees());
+        assertNull(projected.precipitationMm());
+        assertNull(projected.cloudCoverPercent());
+    }
+
+    @Test
+    void shouldKeepEverythingWhenAllFieldsSelected() {
+        // When / Then
+        assertEquals(full, full.project(EnumSet.allOf(WeatherField.class)));
+    }
+
+    @Test
+    void shouldLeaveUnselectedFieldsOutOfJson() {
+        // When
+        JsonNode json = new ObjectMapper().valueToTree(full.project(EnumSet.of(WeatherField.TEMPERATURE)));
+
+        // Then
+        List<String> names = new ArrayList<>();
+        json.fieldNames().forEachRemaining(names::add);
+        assertEquals(List.of("location", "temperature_celsius", "timestamp"), names);
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.hexagonal.weather.adapter.rest.profiling;
+
+import io.github.hexagonal.weather.adapter.rest.config.ProfilingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FlightRecording.
+ */
+class FlightRecordingTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecording recording;
+
+    @AfterEach
+    void tearDown() {
+        recording.onStop(null);
+    }
+
+    @Test
+    void shouldKeepOnlyTheLatestDumps() throws Exception {
+        // Given
+        recording = new FlightRecording(config(2));
+        recording.onStart(null);
+        Path unrelated = Files.createFile(dumpDirectory.resolve("notes.txt"));
+
+        // When
+        List<Path> dumps = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            dumps.add(recording.dump(Duration.ofMinutes(1)));
+            Thread.sleep(5);
+        }
+
+        // Then
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            assertEquals(List.of(unrelated, dumps.get(2), dumps.get(3)), files.sorted().toList());
+        }
+    }
+
+    private ProfilingConfig config(int maxDumps) {
+        return new ProfilingConfig() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public Duration maxAge() {
+                return Duration.ofMinutes(30);
+            }
+
+            @Override
+            public long maxSize() {
+                return 1024 * 1024;
+            }
+
+            @Override
+            public Optional<Path> dumpDirectory() {
+                return Optional.of(dumpDirectory);
+            }
+
+            @Override
+            public int maxDumps() {
+                return maxDumps;
+            }
+
+            @Override
+            public Optional<String> adminToken() {
+                return Optional.empty();
+            }
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.hexagonal.weather.adapter.rest.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void shouldEstimateQuantilesFromBuckets() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(Duration.ofMillis(3));
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(Duration.ofMillis(40));
+        }
+
+        // Then
+        assertEquals(100, histogram.count());
+        assertEquals(5.0, histogram.quantileMillis(0.5));
+        assertEquals(5.0, histogram.quantileMillis(0.9));
+        assertEquals(40.0, histogram.quantileMillis(0.99));
+        assertEquals(40.0, histogram.maxMillis());
+        assertEquals(6.7, histogram.meanMillis(), 0.001);
+    }
+
+    @Test
+    void shouldCountSlowSamplesInLastBucket() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        histogram.record(Duration.ofSeconds(30));
+        histogram.record(Duration.ofMillis(1));
+
+        // Then
+        long[] counts = histogram.bucketCounts();
+        assertEquals(1, counts[counts.length - 1]);
+        assertEquals(1, counts[3]);
+        assertNull(LatencyHistogram.bucketBoundMillis(counts.length - 1));
+        assertEquals(30_000.0, histogram.quantileMillis(1.0));
+    }
+
+    @Test
+    void shouldReportZeroWhenEmpty() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Then
+        assertEquals(0, histogram.count());
+        assertEquals(0.0, histogram.quantileMillis(0.99));
+        assertEquals(0.0, histogram.meanMillis());
+    }
+}
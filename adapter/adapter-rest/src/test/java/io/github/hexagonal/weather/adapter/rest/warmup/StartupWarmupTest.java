@@ -0,0 +1,34 @@
+package io.github.hexagonal.weather.adapter.rest.warmup;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StartupWarmup.
+ */
+class StartupWarmupTest {
+
+    @Test
+    void shouldSendLookupsToBoundHostAndPort() {
+        // When
+        URI uri = StartupWarmup.serverUri("localhost", 8081);
+
+        // Then
+        assertEquals(URI.create("http://localhost:8081"), uri);
+    }
+
+    @Test
+    void shouldSendLookupsOverLoopbackWhenListeningOnAllInterfaces() {
+        // When
+        URI ipv4 = StartupWarmup.serverUri("0.0.0.0", 9090);
+        URI ipv6 = StartupWarmup.serverUri("::", 9090);
+
+        // Then
+        assertTrue(ipv4.getHost().equals("127.0.0.1") || ipv4.getHost().equals("[::1]"), ipv4.toString());
+        assertEquals(ipv4, ipv6);
+        assertEquals(9090, ipv4.getPort());
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.hexagonal.weather.application.port.in;
+
+import io.github.hexagonal.weather.model.City;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Incoming port (use case interface) for looking up cities by name.
+ */
+public interface FindCityUseCase {
+
+    /**
+     * Finds the city with the given name. When several places share the name,
+     * the most populous one is returned.
+     *
+     * @param name City name, matched case- and accent-insensitively
+     * @return The city, or empty if the name is unknown
+     */
+    Optional<City> findCity(String name);
+
+    /**
+     * Lists cities whose name starts with the given prefix, for autocompletion.
+     *
+     * @param prefix Name prefix, matched case- and accent-insensitively
+     * @param limit  Maximum number of results
+     * @return Matching cities in alphabetical order
+     */
+    List<City> searchCities(String prefix, int limit);
+}
@@ -1,7 +1,7 @@
 package io.github.hexagonal.weather.application.port.in;
 
-import io.github.hexagonal.weather.model.Location;
 import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherQuery;
 
 /**
  * Incoming port (use case interface) for retrieving weather information.
@@ -10,11 +10,15 @@ import io.github.hexagonal.weather.model.Weather;
 public interface GetWeatherUseCase {
 
     /**
-     * Retrieves current weather for the given location.
+     * Retrieves current weather for a lookup.
+     * The result holds at least the requested measurements, and the lookup stops as soon as
+     * its deadline passes or it is cancelled.
      *
-     * @param location The location to get weather for
+     * @param query The location, measurements, time budget and client of the lookup
      * @return Current weather information
      * @throws io.github.hexagonal.weather.model.WeatherNotFoundException if weather data is unavailable
+     * @throws io.github.hexagonal.weather.model.DeadlineExceededException if the deadline passes first
+     * @throws io.github.hexagonal.weather.model.RequestCancelledException if the request is cancelled
      */
-    Weather getWeather(Location location);
-}
\ No newline at end of file
+    Weather getWeather(WeatherQuery query);
+}
@@ -0,0 +1,30 @@
+package io.github.hexagonal.weather.application.port.out;
+
+import io.github.hexagonal.weather.model.City;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outgoing port for looking up places by name.
+ * Implementations are provided by adapter modules.
+ */
+public interface Gazetteer {
+
+    /**
+     * Finds the most populous place with exactly the given name.
+     *
+     * @param name Place name, matched case- and accent-insensitively
+     * @return The place, or empty if the name is unknown
+     */
+    Optional<City> findByName(String name);
+
+    /**
+     * Lists places whose name starts with the given prefix.
+     *
+     * @param prefix Name prefix, matched case- and accent-insensitively
+     * @param limit  Maximum number of results
+     * @return Matching places in alphabetical order
+     */
+    List<City> findByPrefix(String prefix, int limit);
+}
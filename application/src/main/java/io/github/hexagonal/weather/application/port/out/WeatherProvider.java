@@ -1,7 +1,7 @@
 package io.github.hexagonal.weather.application.port.out;
 
-import io.github.hexagonal.weather.model.Location;
 import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherQuery;
 
 /**
  * Outgoing port (repository interface) for retrieving weather data.
@@ -12,10 +12,16 @@ public interface WeatherProvider {
 
     /**
      * Fetches current weather from an external source.
+     * <p>
+     * Implementations should fetch only the requested measurements, but may return more (e.g. from
+     * a cache entry fetched for a wider request). Implementations that call remote systems should
+     * derive their timeouts from {@link io.github.hexagonal.weather.model.Deadline#remaining()}
+     * and abort in-flight calls on cancellation. Providers that share limited upstream capacity
+     * can use the client to divide it fairly.
      *
-     * @param location The location to get weather for
+     * @param query The location, measurements, time budget and client of the lookup
      * @return Current weather information
-     * @throws io.github.hexagonal.weather.model.WeatherException if weather data cannot be retrieved
+     * @throws io.github.hexagonal.weather.model.WeatherException if weather data cannot be retrieved in time
      */
-    Weather fetchWeather(Location location);
-}
\ No newline at end of file
+    Weather fetchWeather(WeatherQuery query);
+}
@@ -0,0 +1,46 @@
+package io.github.hexagonal.weather.application.service;
+
+import io.github.hexagonal.weather.application.port.in.FindCityUseCase;
+import io.github.hexagonal.weather.application.port.out.Gazetteer;
+import io.github.hexagonal.weather.model.City;
+import lombok.extern.jbosslog.JBossLog;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service orchestrator implementing the FindCityUseCase.
+ */
+@JBossLog
+public class CityService implements FindCityUseCase {
+
+    static final int MAX_RESULTS = 50;
+
+    private final Gazetteer gazetteer;
+
+    public CityService(Gazetteer gazetteer) {
+        this.gazetteer = gazetteer;
+    }
+
+    @Override
+    public Optional<City> findCity(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+
+        Optional<City> city = gazetteer.findByName(name.strip());
+
+        log.debugf("Resolved city '%s' to %s", name, city);
+
+        return city;
+    }
+
+    @Override
+    public List<City> searchCities(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit < 1) {
+            return List.of();
+        }
+
+        return gazetteer.findByPrefix(prefix.strip(), Math.min(limit, MAX_RESULTS));
+    }
+}
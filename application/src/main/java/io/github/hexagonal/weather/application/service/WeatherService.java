@@ -2,9 +2,11 @@ package io.github.hexagonal.weather.application.service;
 
 import io.github.hexagonal.weather.application.port.in.GetWeatherUseCase;
 import io.github.hexagonal.weather.application.port.out.WeatherProvider;
-import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Deadline;
 import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherQuery;
 import lombok.extern.jbosslog.JBossLog;
+import org.jboss.logging.Logger;
 
 /**
  * Service orchestrator implementing the GetWeatherUseCase.
@@ -14,19 +16,33 @@ import lombok.extern.jbosslog.JBossLog;
 public class WeatherService implements GetWeatherUseCase {
 
     private final WeatherProvider weatherProvider;
+    private final Logger.Level lookupLogLevel;
 
     public WeatherService(WeatherProvider weatherProvider) {
+        this(weatherProvider, Logger.Level.INFO);
+    }
+
+    /**
+     * @param lookupLogLevel Level of the per-lookup log lines, e.g. {@code DEBUG} for synthetic lookups
+     */
+    public WeatherService(WeatherProvider weatherProvider, Logger.Level lookupLogLevel) {
         this.weatherProvider = weatherProvider;
+        this.lookupLogLevel = lookupLogLevel;
     }
 
     @Override
-    public Weather getWeather(Location location) {
-        log.infof("Fetching weather for location: %s", location);
+    public Weather getWeather(WeatherQuery query) {
+        Deadline deadline = query.deadline();
+        deadline.check();
+
+        log.logf(lookupLogLevel, "Fetching weather for location: %s with %s for %s (remaining budget: %s)",
+            query.location(), query.measurements(), query.client().name(),
+            deadline.isBounded() ? deadline.remaining() : "unbounded");
 
-        Weather weather = weatherProvider.fetchWeather(location);
+        Weather weather = weatherProvider.fetchWeather(query);
 
-        log.infof("Retrieved weather: %s at %s", weather.condition(), weather.temperature());
+        log.logf(lookupLogLevel, "Retrieved weather: %s at %s", weather.condition(), weather.temperature());
 
         return weather;
     }
-}
\ No newline at end of file
+}
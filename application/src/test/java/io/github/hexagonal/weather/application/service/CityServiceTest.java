@@ -0,0 +1,66 @@
+package io.github.hexagonal.weather.application.service;
+
+import io.github.hexagonal.weather.application.port.out.Gazetteer;
+import io.github.hexagonal.weather.model.City;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CityService.
+ */
+@ExtendWith(MockitoExtension.class)
+class CityServiceTest {
+
+    @Mock
+    private Gazetteer gazetteer;
+
+    private CityService cityService;
+
+    @BeforeEach
+    void setUp() {
+        cityService = new CityService(gazetteer);
+    }
+
+    @Test
+    void shouldFindCityByName() {
+        // Given
+        City ghent = new City("Ghent", "BE", 51.05, 3.71667, 231493);
+        when(gazetteer.findByName("Ghent")).thenReturn(Optional.of(ghent));
+
+        // When
+        Optional<City> result = cityService.findCity(" Ghent ");
+
+        // Then
+        assertEquals(Optional.of(ghent), result);
+        assertEquals("Ghent", result.get().toLocation().cityName());
+    }
+
+    @Test
+    void shouldNotQueryGazetteerForBlankInput() {
+        // When & Then
+        assertTrue(cityService.findCity(" ").isEmpty());
+        assertTrue(cityService.searchCities("", 10).isEmpty());
+        verifyNoInteractions(gazetteer);
+    }
+
+    @Test
+    void shouldCapSearchLimit() {
+        // Given
+        when(gazetteer.findByPrefix("Gh", CityService.MAX_RESULTS)).thenReturn(List.of());
+
+        // When
+        cityService.searchCities("Gh", 1000);
+
+        // Then
+        verify(gazetteer).findByPrefix("Gh", CityService.MAX_RESULTS);
+    }
+}
@@ -1,17 +1,25 @@
 package io.github.hexagonal.weather.application.service;
 
 import io.github.hexagonal.weather.application.port.out.WeatherProvider;
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.DeadlineExceededException;
 import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Measurement;
 import io.github.hexagonal.weather.model.Weather;
 import io.github.hexagonal.weather.model.WeatherCondition;
 import io.github.hexagonal.weather.model.WeatherNotFoundException;
+import io.github.hexagonal.weather.model.WeatherQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,6 +45,7 @@ class WeatherServiceTest {
     void shouldFetchWeatherSuccessfully() {
         // Given
         Location location = new Location(50.8503, 4.3517, "Brussels");
+        WeatherQuery query = WeatherQuery.of(location);
         Weather expectedWeather = new Weather(
             location,
             20.5,
@@ -44,35 +53,37 @@ class WeatherServiceTest {
             Instant.now()
         );
 
-        when(weatherProvider.fetchWeather(location)).thenReturn(expectedWeather);
+        when(weatherProvider.fetchWeather(query)).thenReturn(expectedWeather);
 
         // When
-        Weather result = weatherService.getWeather(location);
+        Weather result = weatherService.getWeather(query);
 
         // Then
         assertNotNull(result);
         assertEquals(expectedWeather, result);
         assertEquals(20.5, result.temperature());
         assertEquals(WeatherCondition.PARTLY_CLOUDY, result.condition());
-        verify(weatherProvider, times(1)).fetchWeather(location);
+        verify(weatherProvider, times(1)).fetchWeather(query);
     }
 
     @Test
     void shouldPropagateExceptionWhenProviderFails() {
         // Given
         Location location = new Location(50.8503, 4.3517, "Brussels");
-        when(weatherProvider.fetchWeather(location))
+        WeatherQuery query = WeatherQuery.of(location);
+        when(weatherProvider.fetchWeather(query))
             .thenThrow(new WeatherNotFoundException(location));
 
         // When & Then
-        assertThrows(WeatherNotFoundException.class, () -> weatherService.getWeather(location));
-        verify(weatherProvider, times(1)).fetchWeather(location);
+        assertThrows(WeatherNotFoundException.class, () -> weatherService.getWeather(query));
+        verify(weatherProvider, times(1)).fetchWeather(query);
     }
 
     @Test
     void shouldHandleLocationWithoutCityName() {
         // Given
         Location location = new Location(50.8503, 4.3517);
+        WeatherQuery query = WeatherQuery.of(location);
         Weather expectedWeather = new Weather(
             location,
             18.0,
@@ -80,14 +91,44 @@ class WeatherServiceTest {
             Instant.now()
         );
 
-        when(weatherProvider.fetchWeather(location)).thenReturn(expectedWeather);
+        when(weatherProvider.fetchWeather(query)).thenReturn(expectedWeather);
 
         // When
-        Weather result = weatherService.getWeather(location);
+        Weather result = weatherService.getWeather(query);
 
         // Then
         assertNotNull(result);
         assertEquals("Unknown", result.location().cityName());
-        verify(weatherProvider, times(1)).fetchWeather(location);
+        verify(weatherProvider, times(1)).fetchWeather(query);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldPassWholeQueryToProvider() {
+        // Given
+        Location location = new Location(50.8503, 4.3517, "Brussels");
+        WeatherQuery query = new WeatherQuery(location, Set.of(Measurement.WIND_SPEED),
+            Deadline.after(Duration.ofSeconds(5)), new ClientId("reporting"));
+        Weather expectedWeather = new Weather(location, 20.5, WeatherCondition.CLEAR, Instant.now(),
+            Map.of(Measurement.WIND_SPEED, 14.0));
+
+        when(weatherProvider.fetchWeather(query)).thenReturn(expectedWeather);
+
+        // When
+        Weather result = weatherService.getWeather(query);
+
+        // Then
+        assertEquals(14.0, result.measurement(Measurement.WIND_SPEED).orElseThrow());
+        verify(weatherProvider, times(1)).fetchWeather(query);
+    }
+
+    @Test
+    void shouldNotCallProviderWhenDeadlineHasPassed() {
+        // Given
+        Location location = new Location(50.8503, 4.3517, "Brussels");
+        WeatherQuery query = new WeatherQuery(location, Set.of(), Deadline.after(Duration.ZERO), ClientId.ANONYMOUS);
+
+        // When & Then
+        assertThrows(DeadlineExceededException.class, () -> weatherService.getWeather(query));
+        verifyNoInteractions(weatherProvider);
+    }
+}
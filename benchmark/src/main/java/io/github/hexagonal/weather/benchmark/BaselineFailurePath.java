@@ -0,0 +1,48 @@
+package io.github.hexagonal.weather.benchmark;
+
+import io.github.hexagonal.weather.adapter.openmeteo.client.OpenMeteoClient;
+import io.github.hexagonal.weather.adapter.openmeteo.dto.OpenMeteoResponse;
+import io.github.hexagonal.weather.adapter.openmeteo.mapper.OpenMeteoMapper;
+import io.github.hexagonal.weather.application.port.out.WeatherProvider;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherNotFoundException;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import lombok.extern.jbosslog.JBossLog;
+import org.jboss.resteasy.reactive.RestResponse;
+
+/**
+ * The Open-Meteo failure path before the negative cache: every lookup calls upstream,
+ * logs the failure with its stack trace and throws a new exception with a full stack trace.
+ */
+@JBossLog
+class BaselineFailurePath implements WeatherProvider {
+
+    private final OpenMeteoClient client;
+    private final OpenMeteoMapper mapper;
+
+    BaselineFailurePath(OpenMeteoClient client, OpenMeteoMapper mapper) {
+        this.client = client;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Weather fetchWeather(WeatherQuery query) {
+        Location location = query.location();
+        try {
+            log.infof("Fetching weather from Open-Meteo API for: lat=%f, lon=%f",
+                location.latitude(), location.longitude());
+
+            RestResponse<OpenMeteoResponse> response = client.getCurrentWeather(
+                location.latitude(),
+                location.longitude(),
+                "temperature_2m,weather_code"
+            ).await().indefinitely();
+
+            return mapper.toDomain(response.getEntity(), location);
+        } catch (Exception e) {
+            log.errorf(e, "Failed to fetch weather for location: %s", location);
+            throw new WeatherNotFoundException("Unable to fetch weather data", e);
+        }
+    }
+}
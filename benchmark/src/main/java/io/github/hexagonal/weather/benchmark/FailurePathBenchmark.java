@@ -0,0 +1,100 @@
+package io.github.hexagonal.weather.benchmark;
+
+import io.github.hexagonal.weather.adapter.openmeteo.OpenMeteoAdapter;
+import io.github.hexagonal.weather.adapter.openmeteo.client.OpenMeteoClient;
+import io.github.hexagonal.weather.adapter.openmeteo.failure.FailureLog;
+import io.github.hexagonal.weather.adapter.openmeteo.failure.NegativeCache;
+import io.github.hexagonal.weather.adapter.openmeteo.mapper.OpenMeteoMapper;
+import io.github.hexagonal.weather.adapter.openmeteo.scheduling.FairQueue;
+import io.github.hexagonal.weather.application.port.out.WeatherProvider;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.WeatherException;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.ProcessingException;
+import org.jboss.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogManager;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+
+/**
+ * Throughput of lookups for coordinates Open-Meteo keeps failing on (e.g. 400 for out-of-range
+ * coordinates), before and after the negative cache. The upstream fails immediately, so this
+ * measures what the service itself spends per failing lookup: logging, stack traces, retries.
+ * Log records are formatted and written to a null stream, as a real handler would format them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.jboss.logging.provider=jdk")
+public class FailurePathBenchmark {
+
+    private static final int LOCATIONS = 64;
+
+    @Param({"baseline", "negative-cache"})
+    private String mode;
+
+    private WeatherProvider provider;
+    private Location[] locations;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        LogManager.getLogManager().reset();
+        Handler handler = new StreamHandler(OutputStream.nullOutputStream(), new SimpleFormatter());
+        java.util.logging.Logger.getLogger("").addHandler(handler);
+
+        OpenMeteoClient failingClient = (latitude, longitude, current) ->
+            Uni.createFrom().failure(() -> new ProcessingException("HTTP 400 Bad Request"));
+        OpenMeteoMapper mapper = new OpenMeteoMapper();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        provider = switch (mode) {
+            case "baseline" -> new BaselineFailurePath(failingClient, mapper);
+            case "negative-cache" -> new OpenMeteoAdapter(
+                failingClient,
+                mapper,
+                registry,
+                new NegativeCache(true, 0.1, Duration.ofSeconds(5), Duration.ofMinutes(5), 10_000),
+                new FailureLog(Logger.getLogger(OpenMeteoAdapter.class), Duration.ofSeconds(10)),
+                new FairQueue(false, 1, 1, Map.of(), registry)
+            );
+            default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+        };
+
+        locations = new Location[LOCATIONS];
+        for (int i = 0; i < LOCATIONS; i++) {
+            locations[i] = new Location(89.5 - i * 0.5, 179.5 - i * 0.5);
+        }
+    }
+
+    @Benchmark
+    public Object failingLookup() {
+        Location location = locations[next++ & (LOCATIONS - 1)];
+        try {
+            return provider.fetchWeather(WeatherQuery.of(location));
+        } catch (WeatherException e) {
+            return e;
+        }
+    }
+}
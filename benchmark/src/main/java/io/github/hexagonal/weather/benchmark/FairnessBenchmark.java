@@ -0,0 +1,137 @@
+package io.github.hexagonal.weather.benchmark;
+
+import io.github.hexagonal.weather.adapter.openmeteo.OpenMeteoAdapter;
+import io.github.hexagonal.weather.adapter.openmeteo.client.OpenMeteoClient;
+import io.github.hexagonal.weather.adapter.openmeteo.dto.OpenMeteoResponse;
+import io.github.hexagonal.weather.adapter.openmeteo.failure.FailureLog;
+import io.github.hexagonal.weather.adapter.openmeteo.failure.NegativeCache;
+import io.github.hexagonal.weather.adapter.openmeteo.mapper.OpenMeteoMapper;
+import io.github.hexagonal.weather.adapter.openmeteo.scheduling.FairQueue;
+import io.github.hexagonal.weather.application.port.out.WeatherProvider;
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+
+/**
+ * Share of upstream capacity under skewed load: a noisy client with 7 threads and a quiet client
+ * with 1 thread compete for {@value #SLOTS} upstream call slots, each call taking {@value #LATENCY_MILLIS} ms.
+ * With first-come-first-served slots (a fair semaphore, as when Open-Meteo's capacity is the only limit)
+ * the quiet client queues behind every noisy call and gets about one call in eight.
+ * With the fair queue and equal weights it is served as soon as a slot frees up,
+ * so its throughput is bounded by its own single thread rather than by the noisy client.
+ * Compare the per-method throughput of {@code quiet} and {@code noisy} between the two modes.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@org.openjdk.jmh.annotations.Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.jboss.logging.provider=jdk")
+public class FairnessBenchmark {
+
+    static final int SLOTS = 2;
+    static final int LATENCY_MILLIS = 2;
+
+    private static final ClientId NOISY = new ClientId("noisy");
+    private static final ClientId QUIET = new ClientId("quiet");
+
+    @Param({"first-come-first-served", "fair-queue"})
+    private String scheduling;
+
+    private WeatherProvider provider;
+    private final Location location = new Location(50.8503, 4.3517, "Brussels");
+
+    @Setup
+    public void setUp() {
+        LogManager.getLogManager().reset();
+        java.util.logging.Logger.getLogger("").setLevel(Level.WARNING);
+
+        OpenMeteoResponse body = new OpenMeteoResponse(50.85, 4.35, new OpenMeteoResponse.CurrentWeather(
+            "2025-09-30T12:45", 18.5, 2, null, null, null, null, null, null));
+        OpenMeteoClient client = (latitude, longitude, current) -> Uni.createFrom().item(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(LATENCY_MILLIS));
+            return RestResponse.ok(body);
+        });
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        boolean fair = switch (scheduling) {
+            case "first-come-first-served" -> false;
+            case "fair-queue" -> true;
+            default -> throw new IllegalArgumentException("Unknown scheduling: " + scheduling);
+        };
+        OpenMeteoAdapter adapter = new OpenMeteoAdapter(
+            client,
+            new OpenMeteoMapper(),
+            registry,
+            new NegativeCache(true, 0.1, Duration.ofSeconds(5), Duration.ofMinutes(5), 10_000),
+            new FailureLog(Logger.getLogger(OpenMeteoAdapter.class), Duration.ofSeconds(10)),
+            new FairQueue(fair, SLOTS, 1, Map.of(), registry)
+        );
+        provider = fair ? adapter : new FirstComeFirstServed(adapter, SLOTS);
+    }
+
+    @Benchmark
+    @Group("skewed")
+    @GroupThreads(7)
+    public Weather noisy() {
+        return provider.fetchWeather(new WeatherQuery(location, Set.of(), Deadline.none(), NOISY));
+    }
+
+    @Benchmark
+    @Group("skewed")
+    @GroupThreads(1)
+    public Weather quiet() {
+        return provider.fetchWeather(new WeatherQuery(location, Set.of(), Deadline.none(), QUIET));
+    }
+
+    /**
+     * Upstream slots handed out in arrival order, regardless of the client.
+     */
+    private static final class FirstComeFirstServed implements WeatherProvider {
+
+        private final WeatherProvider upstream;
+        private final Semaphore slots;
+
+        FirstComeFirstServed(WeatherProvider upstream, int slots) {
+            this.upstream = upstream;
+            this.slots = new Semaphore(slots, true);
+        }
+
+        @Override
+        public Weather fetchWeather(WeatherQuery query) {
+            slots.acquireUninterruptibly();
+            try {
+                return upstream.fetchWeather(query);
+            } finally {
+                slots.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.hexagonal.weather.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hexagonal.weather.adapter.openmeteo.OpenMeteoAdapter;
+import io.github.hexagonal.weather.adapter.openmeteo.client.OpenMeteoClient;
+import io.github.hexagonal.weather.adapter.openmeteo.dto.OpenMeteoResponse;
+import io.github.hexagonal.weather.adapter.openmeteo.failure.FailureLog;
+import io.github.hexagonal.weather.adapter.openmeteo.failure.NegativeCache;
+import io.github.hexagonal.weather.adapter.openmeteo.mapper.OpenMeteoMapper;
+import io.github.hexagonal.weather.adapter.openmeteo.profiling.UpstreamFetchEvent;
+import io.github.hexagonal.weather.adapter.openmeteo.scheduling.FairQueue;
+import io.github.hexagonal.weather.adapter.rest.dto.WeatherField;
+import io.github.hexagonal.weather.adapter.rest.dto.WeatherResponse;
+import io.github.hexagonal.weather.adapter.rest.mapper.WeatherRestMapper;
+import io.github.hexagonal.weather.adapter.rest.mapper.WeatherRestMapperImpl;
+import io.github.hexagonal.weather.adapter.rest.profiling.ResponseMappingEvent;
+import io.github.hexagonal.weather.adapter.rest.profiling.UseCaseInvocationEvent;
+import io.github.hexagonal.weather.application.port.in.GetWeatherUseCase;
+import io.github.hexagonal.weather.application.service.WeatherService;
+import io.github.hexagonal.weather.model.ClientId;
+import io.github.hexagonal.weather.model.Deadline;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.Measurement;
+import io.github.hexagonal.weather.model.Weather;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import jdk.jfr.Recording;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+
+/**
+ * Cost of the Flight Recorder stage events, compared with the cost of a request.
+ * <ul>
+ *   <li>{@code stageEvents}: the three events a request records (use case invocation,
+ *       upstream fetch, response mapping), around stages that do nothing.</li>
+ *   <li>{@code inProcess}: use case, Open-Meteo adapter (with an upstream that answers immediately),
+ *       response mapping and JSON serialization, without HTTP handling.</li>
+ *   <li>{@code overLoopback}: the same request served by a Vert.x HTTP server and sent over loopback
+ *       with {@code java.net.http}, i.e. the cheapest a client request gets; real lookups also wait
+ *       for Open-Meteo or a peer.</li>
+ * </ul>
+ * The overhead of profiling is the difference of {@code stageEvents} between {@code on} and {@code off},
+ * relative to {@code overLoopback}. Info logging is switched off so it does not hide the events' cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@org.openjdk.jmh.annotations.Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Dorg.jboss.logging.provider=jdk")
+public class ProfilingOverheadBenchmark {
+
+    @Param({"off", "on"})
+    private String recording;
+
+    private Recording continuous;
+    private GetWeatherUseCase useCase;
+    private WeatherRestMapper restMapper;
+    private ObjectMapper objectMapper;
+    private Vertx vertx;
+    private HttpClient httpClient;
+    private HttpRequest httpRequest;
+    private final Location location = new Location(50.8503, 4.3517, "Brussels");
+    private final Set<WeatherField> fields = Set.of(WeatherField.TEMPERATURE, WeatherField.WIND_SPEED);
+    private final Set<Measurement> measurements = WeatherField.measurements(fields);
+
+    @Setup
+    public void setUp() throws Exception {
+        OpenMeteoResponse body = new OpenMeteoResponse(50.85, 4.35, new OpenMeteoResponse.CurrentWeather(
+            "2025-09-30T12:45", 18.5, 2, null, null, 12.0, null, null, null));
+        OpenMeteoClient client = (latitude, longitude, current) -> Uni.createFrom().item(RestResponse.ok(body));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        useCase = new WeatherService(new OpenMeteoAdapter(
+            client,
+            new OpenMeteoMapper(),
+            registry,
+            new NegativeCache(true, 0.1, Duration.ofSeconds(5), Duration.ofMinutes(5), 10_000),
+            new FailureLog(Logger.getLogger(OpenMeteoAdapter.class), Duration.ofSeconds(10)),
+            new FairQueue(false, 1, 1, Map.of(), registry)
+        ));
+        restMapper = new WeatherRestMapperImpl();
+        objectMapper = new ObjectMapper();
+
+        vertx = Vertx.vertx();
+        HttpServer server = vertx.createHttpServer()
+            .requestHandler(request -> vertx.<byte[]>executeBlocking(this::inProcess).onComplete(result -> {
+                if (result.succeeded()) {
+                    request.response().putHeader("Content-Type", "application/json").end(Buffer.buffer(result.result()));
+                } else {
+                    request.response().setStatusCode(500).end();
+                }
+            }))
+            .listen(0, "127.0.0.1")
+            .toCompletionStage().toCompletableFuture().get();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        httpRequest = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.actualPort() + "/weather")).build();
+
+        // After starting Vert.x, which configures logging on first use
+        LogManager.getLogManager().reset();
+        java.util.logging.Logger.getLogger("").setLevel(Level.WARNING);
+
+        if (recording.equals("on")) {
+            continuous = new Recording();
+            continuous.setToDisk(true);
+            continuous.setMaxAge(Duration.ofMinutes(30));
+            continuous.start();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (continuous != null) {
+            continuous.close();
+        }
+        httpClient.close();
+        vertx.close().toCompletionStage().toCompletableFuture().get();
+    }
+
+    @Benchmark
+    public void stageEvents() {
+        UseCaseInvocationEvent invocation = UseCaseInvocationEvent.start("GetWeather");
+        UpstreamFetchEvent fetch = new UpstreamFetchEvent();
+        fetch.begin();
+        fetch.end();
+        if (fetch.shouldCommit()) {
+            fetch.status = 200;
+            fetch.outcome = "OK";
+            fetch.variables = "temperature_2m,weather_code,wind_speed_10m";
+            fetch.commit();
+        }
+        invocation.succeeded();
+
+        ResponseMappingEvent mapping = ResponseMappingEvent.start("WeatherResponse");
+        mapping.finish();
+    }
+
+    @Benchmark
+    public byte[] inProcess() throws Exception {
+        UseCaseInvocationEvent invocation = UseCaseInvocationEvent.start("GetWeather");
+        Weather weather = useCase.getWeather(
+            new WeatherQuery(location, measurements, Deadline.none(), ClientId.ANONYMOUS));
+        invocation.succeeded();
+
+        ResponseMappingEvent mapping = ResponseMappingEvent.start("WeatherResponse");
+        WeatherResponse response = restMapper.toResponse(weather, fields);
+        mapping.finish();
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] overLoopback() throws Exception {
+        return httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+}
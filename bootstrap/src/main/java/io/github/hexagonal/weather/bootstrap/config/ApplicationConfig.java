@@ -1,10 +1,19 @@
 package io.github.hexagonal.weather.bootstrap.config;
 
+import io.github.hexagonal.weather.adapter.cluster.ClusterWeatherAdapter;
+import io.github.hexagonal.weather.adapter.openmeteo.warmup.SyntheticUpstream;
+import io.github.hexagonal.weather.adapter.rest.warmup.StartupReport;
+import io.github.hexagonal.weather.adapter.rest.warmup.StartupWarmup;
+import io.github.hexagonal.weather.adapter.rest.warmup.Warmup;
+import io.github.hexagonal.weather.application.port.in.FindCityUseCase;
 import io.github.hexagonal.weather.application.port.in.GetWeatherUseCase;
-import io.github.hexagonal.weather.application.port.out.WeatherProvider;
+import io.github.hexagonal.weather.application.port.out.Gazetteer;
+import io.github.hexagonal.weather.application.service.CityService;
 import io.github.hexagonal.weather.application.service.WeatherService;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.Produces;
+import org.jboss.logging.Logger;
 
 /**
  * CDI configuration for wiring application components.
@@ -18,11 +27,43 @@ public class ApplicationConfig {
 
     /**
      * Produces the GetWeatherUseCase bean.
-     * The WeatherProvider is automatically injected by CDI from the adapter module.
+     * The use case talks to the cluster adapter, which wraps the WeatherProvider
+     * injected by CDI from the Open-Meteo adapter module.
      */
     @Produces
     @ApplicationScoped
-    public GetWeatherUseCase getWeatherUseCase(WeatherProvider weatherProvider) {
-        return new WeatherService(weatherProvider);
+    public GetWeatherUseCase getWeatherUseCase(ClusterWeatherAdapter clusterWeatherAdapter) {
+        return new WeatherService(clusterWeatherAdapter);
+    }
+
+    /**
+     * Produces the GetWeatherUseCase used to warm up the service before it reports ready.
+     * It looks up generated weather from the synthetic upstream instead of Open-Meteo,
+     * served by this instance on the address it listens on until the warm-up completes.
+     * Its lookups are logged at DEBUG.
+     */
+    @Produces
+    @Warmup
+    @ApplicationScoped
+    public GetWeatherUseCase warmupWeatherUseCase(SyntheticUpstream syntheticUpstream, StartupWarmup warmup) {
+        return new WeatherService(
+            syntheticUpstream.provider(warmup.serverUri()), Logger.Level.DEBUG);
+    }
+
+    /**
+     * Closes the synthetic upstream once the warm-up is over, releasing its REST client.
+     */
+    void closeSyntheticUpstream(@Observes StartupReport report, SyntheticUpstream syntheticUpstream) {
+        syntheticUpstream.close();
+    }
+
+    /**
+     * Produces the FindCityUseCase bean.
+     * The Gazetteer is automatically injected by CDI from the gazetteer adapter module.
+     */
+    @Produces
+    @ApplicationScoped
+    public FindCityUseCase findCityUseCase(Gazetteer gazetteer) {
+        return new CityService(gazetteer);
     }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package io.github.hexagonal.weather.bootstrap;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.*;
+
+/**
+ * Integration test for the bulk weather endpoint.
+ * Uses rows that fail validation, so no upstream call is made.
+ */
+@QuarkusTest
+class BulkWeatherControllerIntegrationTest {
+
+    /**
+     * Larger than the global body limit (10M by default), made of blank lines so it has no rows.
+     */
+    private static final byte[] LARGE_BODY = blankLines(11 * 1024 * 1024);
+
+    @Test
+    void shouldStreamOneResultPerNdjsonRowInOrder() {
+        given()
+            .contentType("application/x-ndjson")
+            .body("{\"id\":\"a\",\"lat\":95,\"lon\":4.35}\n\nnot json\n{\"id\":\"c\",\"lat\":50.85}\n"
+                .getBytes(StandardCharsets.UTF_8))
+            .when()
+            .post("/weather/bulk")
+            .then()
+            .statusCode(200)
+            .contentType(containsString("application/x-ndjson"))
+            .body(is("""
+                {"line":1,"id":"a","error":"Coordinates out of range"}
+                {"line":3,"error":"Invalid JSON"}
+                {"line":4,"id":"c","error":"Expected lat and lon"}
+                """));
+    }
+
+    @Test
+    void shouldAcceptCsvWithHeader() {
+        given()
+            .contentType("text/csv")
+            .body("id,lat,lon\nx,abc,4.35\n")
+            .when()
+            .post("/weather/bulk")
+            .then()
+            .statusCode(200)
+            .body(is("{\"line\":2,\"id\":\"x\",\"error\":\"Invalid coordinates\"}\n"));
+    }
+
+    @Test
+    void shouldRejectUnsupportedBodyFormat() {
+        given()
+            .contentType("text/plain")
+            .body("50.85,4.35\n")
+            .when()
+            .post("/weather/bulk")
+            .then()
+            .statusCode(415);
+    }
+
+    @Test
+    void shouldRejectUnknownField() {
+        given()
+            .contentType("text/csv")
+            .queryParam("fields", "temperature,snow_depth")
+            .body("50.85,4.35\n")
+            .when()
+            .post("/weather/bulk")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void shouldAcceptBodyLargerThanGlobalLimit() {
+        given()
+            .contentType("text/csv")
+            .body(LARGE_BODY)
+            .when()
+            .post("/weather/bulk")
+            .then()
+            .statusCode(200)
+            .body(is(""));
+    }
+
+    @Test
+    void shouldKeepGlobalBodyLimitForOtherEndpoints() {
+        // Expect 100-continue, so the client reads the 413 instead of failing to send the body
+        given()
+            .config(RestAssuredConfig.config().httpClient(
+                HttpClientConfig.httpClientConfig().setParam("http.protocol.expect-continue", true)))
+            .contentType("text/csv")
+            .body(LARGE_BODY)
+            .when()
+            .post("/cities")
+            .then()
+            .statusCode(413);
+    }
+
+    private static byte[] blankLines(int size) {
+        byte[] body = new byte[size];
+        Arrays.fill(body, (byte) '\n');
+        return body;
+    }
+}
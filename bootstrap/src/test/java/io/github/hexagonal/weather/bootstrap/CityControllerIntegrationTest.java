@@ -0,0 +1,61 @@
+package io.github.hexagonal.weather.bootstrap;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Integration test for city lookups backed by the bundled gazetteer.
+ */
+@QuarkusTest
+class CityControllerIntegrationTest {
+
+    @Test
+    void shouldAutocompleteCityNames() {
+        given()
+            .queryParam("prefix", "gh")
+            .when()
+            .get("/cities")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("$", hasSize(2))
+            .body("[0].name", is("Ghent"))
+            .body("[0].country_code", notNullValue())
+            .body("[0].latitude", notNullValue());
+    }
+
+    @Test
+    void shouldReturnNothingForBlankPrefix() {
+        given()
+            .when()
+            .get("/cities")
+            .then()
+            .statusCode(200)
+            .body("$", hasSize(0));
+    }
+
+    @Test
+    void shouldRejectUnknownCityForWeather() {
+        given()
+            .queryParam("city", "Atlantis")
+            .when()
+            .get("/weather")
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    void shouldRequireCoordinatesOrCityForWeather() {
+        given()
+            .queryParam("lat", 50.8503)
+            .when()
+            .get("/weather")
+            .then()
+            .statusCode(400);
+    }
+}
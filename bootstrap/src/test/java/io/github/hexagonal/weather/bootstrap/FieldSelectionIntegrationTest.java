@@ -0,0 +1,54 @@
+package io.github.hexagonal.weather.bootstrap;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.hasKey;
+
+/**
+ * Integration test for selecting weather fields, against a stubbed Open-Meteo.
+ */
+@QuarkusTest
+@TestProfile(StubOpenMeteoResource.Profile.class)
+class FieldSelectionIntegrationTest {
+
+    @Test
+    void shouldOmitUnselectedFields() {
+        given()
+            .queryParam("lat", 50.8503)
+            .queryParam("lon", 4.3517)
+            .queryParam("fields", "wind_speed,Cloud_Cover")
+            .when()
+            .get("/weather")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("wind_speed_kmh", is(12.0f))
+            .body("cloud_cover_percent", is(55.0f))
+            .body("location.latitude", is(50.8503f))
+            .body("timestamp", notNullValue())
+            .body("$", not(hasKey("temperature_celsius")))
+            .body("$", not(hasKey("condition")))
+            .body("$", not(hasKey("condition_description")))
+            .body("$", not(hasKey("relative_humidity_percent")))
+            .body("$", not(hasKey("wind_direction_degrees")));
+    }
+
+    @Test
+    void shouldReturnDefaultFieldsWhenNoneSelected() {
+        given()
+            .queryParam("lat", 50.8503)
+            .queryParam("lon", 4.3517)
+            .when()
+            .get("/weather")
+            .then()
+            .statusCode(200)
+            .body("temperature_celsius", is(18.5f))
+            .body("condition", notNullValue())
+            .body("$", not(hasKey("wind_speed_kmh")));
+    }
+}
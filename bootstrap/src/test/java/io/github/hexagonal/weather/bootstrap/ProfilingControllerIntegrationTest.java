@@ -0,0 +1,79 @@
+package io.github.hexagonal.weather.bootstrap;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Integration test for the continuous profiling endpoints.
+ */
+@QuarkusTest
+class ProfilingControllerIntegrationTest {
+
+    private static final String ADMIN_TOKEN = "test-admin-token";
+
+    @Test
+    void shouldSummarizeRecordedStages() {
+        given().queryParam("prefix", "br").when().get("/cities").then().statusCode(200);
+
+        given()
+            .header("X-Admin-Token", ADMIN_TOKEN)
+            .queryParam("minutes", 1)
+            .when()
+            .get("/admin/profiling/summary")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("window_minutes", is(1))
+            .body("stages.find { it.stage == 'Use Case Invocation' }.count", greaterThan(0))
+            .body("stages.find { it.stage == 'Use Case Invocation' }.outcomes.OK", greaterThan(0))
+            .body("stages.find { it.stage == 'Response Mapping' }.histogram.size()", is(17));
+    }
+
+    @Test
+    void shouldDumpRecordingToFile() {
+        given()
+            .header("X-Admin-Token", ADMIN_TOKEN)
+            .queryParam("minutes", 1)
+            .when()
+            .post("/admin/profiling/recording")
+            .then()
+            .statusCode(200)
+            .body("file", endsWith(".jfr"))
+            .body("bytes", greaterThan(0));
+    }
+
+    @Test
+    void shouldRejectEmptyWindow() {
+        given()
+            .header("X-Admin-Token", ADMIN_TOKEN)
+            .queryParam("minutes", 0)
+            .when()
+            .get("/admin/profiling/summary")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void shouldRejectRequestsWithoutAdminToken() {
+        given()
+            .queryParam("minutes", 1)
+            .when()
+            .post("/admin/profiling/recording")
+            .then()
+            .statusCode(403);
+
+        given()
+            .header("X-Admin-Token", "guess")
+            .queryParam("minutes", 1)
+            .when()
+            .get("/admin/profiling/summary")
+            .then()
+            .statusCode(403);
+    }
+}
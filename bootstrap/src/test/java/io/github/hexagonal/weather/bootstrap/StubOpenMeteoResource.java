@@ -0,0 +1,39 @@
+package io.github.hexagonal.weather.bootstrap;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import java.util.Map;
+
+/**
+ * Canned Open-Meteo forecast for tests that must not depend on the network.
+ * Answers with every variable, whatever was requested.
+ */
+@Path(StubOpenMeteoResource.PATH + "/v1/forecast")
+public class StubOpenMeteoResource {
+
+    static final String PATH = "/test/open-meteo";
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public String getCurrentWeather() {
+        return """
+            {"latitude":50.85,"longitude":4.35,"current":{"time":"2025-09-30T12:45","temperature_2m":18.5,\
+            "weather_code":2,"relative_humidity_2m":70,"apparent_temperature":17.0,"wind_speed_10m":12.0,\
+            "wind_direction_10m":240,"precipitation":0.2,"cloud_cover":55}}""";
+    }
+
+    /**
+     * Points the Open-Meteo client at this resource.
+     */
+    public static class Profile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.rest-client.open-meteo.url", "http://localhost:${quarkus.http.test-port}" + PATH);
+        }
+    }
+}
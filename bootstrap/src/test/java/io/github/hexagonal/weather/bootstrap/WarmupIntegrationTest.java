@@ -0,0 +1,94 @@
+package io.github.hexagonal.weather.bootstrap;
+
+import io.github.hexagonal.weather.adapter.rest.warmup.Warmup;
+import io.github.hexagonal.weather.application.port.in.GetWeatherUseCase;
+import io.github.hexagonal.weather.model.Location;
+import io.github.hexagonal.weather.model.WeatherNotFoundException;
+import io.github.hexagonal.weather.model.WeatherQuery;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration test for the warm-up before readiness.
+ * The test profile sends 200 synthetic lookups.
+ */
+@QuarkusTest
+class WarmupIntegrationTest {
+
+    @Inject
+    @Warmup
+    GetWeatherUseCase warmupWeatherUseCase;
+
+    @BeforeEach
+    void awaitReadiness() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (given().when().get("/q/health/ready").statusCode() != 200) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Service did not become ready");
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    @Test
+    void shouldReportReadyAfterWarmup() {
+        given()
+            .when()
+            .get("/q/health/ready")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("checks.find { it.name == 'warm-up' }.status", is("UP"))
+            .body("checks.find { it.name == 'warm-up' }.data.lookups", is(200))
+            .body("checks.find { it.name == 'warm-up' }.data.failed", is(0))
+            .body("checks.find { it.name == 'warm-up' }.data.ready_ms", greaterThan(0));
+    }
+
+    @Test
+    void shouldExportStartupTimings() {
+        given()
+            .when()
+            .get("/q/metrics")
+            .then()
+            .statusCode(200)
+            .body(containsString("weather_startup_duration_seconds{phase=\"warm-up\"}"))
+            .body(containsString("weather_startup_warmup_throughput{batch=\"last\"}"));
+    }
+
+    @Test
+    void shouldCloseWarmupEndpointsAfterWarmup() {
+        given()
+            .queryParam("lat", 50.8503)
+            .queryParam("lon", 4.3517)
+            .when()
+            .get("/internal/warmup/weather")
+            .then()
+            .statusCode(404);
+
+        given()
+            .queryParam("latitude", 50.8503)
+            .queryParam("longitude", 4.3517)
+            .when()
+            .get("/internal/warmup/not-the-token/v1/forecast")
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    void shouldReleaseSyntheticUpstreamAfterWarmup() {
+        // Given
+        WeatherQuery query = WeatherQuery.of(new Location(50.8503, 4.3517));
+
+        // When / Then
+        assertThrows(WeatherNotFoundException.class, () -> warmupWeatherUseCase.getWeather(query));
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.hexagonal.weather.model;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Value object representing a named place from the gazetteer.
+ *
+ * @param name        Display name of the place
+ * @param countryCode ISO 3166-1 alpha-2 country code
+ * @param latitude    Latitude coordinate (-90 to 90)
+ * @param longitude   Longitude coordinate (-180 to 180)
+ * @param population  Number of inhabitants, used to rank places with the same name
+ */
+public record City(
+    @NotBlank String name,
+    String countryCode,
+    @Min(-90) @Max(90) double latitude,
+    @Min(-180) @Max(180) double longitude,
+    long population
+) {
+    /**
+     * Returns the location of this city, labelled with its name.
+     */
+    public Location toLocation() {
+        return new Location(latitude, longitude, name);
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.hexagonal.weather.model;
+
+/**
+ * Value object identifying the client a lookup is made for, so that shared upstream capacity
+ * can be divided between clients.
+ *
+ * @param name Client name, e.g. the name configured for its API key
+ */
+public record ClientId(String name) {
+
+    /**
+     * Clients that did not identify themselves.
+     */
+    public static final ClientId ANONYMOUS = new ClientId("anonymous");
+
+    public ClientId {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Client name must not be blank");
+        }
+    }
+
+    /**
+     * Returns the client with the given name, or {@link #ANONYMOUS} if there is none.
+     */
+    public static ClientId of(String name) {
+        return name == null || name.isBlank() ? ANONYMOUS : new ClientId(name.strip());
+    }
+}
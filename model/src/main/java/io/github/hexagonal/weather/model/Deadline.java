@@ -0,0 +1,97 @@
+package io.github.hexagonal.weather.model;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Time budget and cancellation signal of a single request.
+ * Passed along the use case and provider ports so that work can stop as soon as the
+ * client has gone away or the budget is spent.
+ */
+public final class Deadline {
+
+    private final long expiresAtNanos;
+    private final boolean bounded;
+    private final List<Runnable> cancelListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean cancelled;
+
+    private Deadline(long expiresAtNanos, boolean bounded) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.bounded = bounded;
+    }
+
+    /**
+     * Creates a deadline that expires after the given timeout.
+     */
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos(), true);
+    }
+
+    /**
+     * Creates a deadline without time limit, which can still be cancelled.
+     */
+    public static Deadline none() {
+        return new Deadline(0, false);
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    /**
+     * Returns the time left, never negative. Unbounded deadlines return {@link Duration#ZERO}
+     * only once cancelled; check {@link #isBounded()} before using this as a timeout.
+     */
+    public Duration remaining() {
+        if (!bounded) {
+            return cancelled ? Duration.ZERO : Duration.ofNanos(Long.MAX_VALUE);
+        }
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return bounded && expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancels the request and notifies all registered listeners.
+     */
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        cancelListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers an action to run on cancellation, e.g. aborting an in-flight call.
+     * Runs immediately if the request is already cancelled.
+     */
+    public void onCancel(Runnable listener) {
+        cancelListeners.add(listener);
+        if (cancelled) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Fails fast if there is no point in doing more work for this request.
+     *
+     * @throws RequestCancelledException if the request was cancelled
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    public void check() {
+        if (cancelled) {
+            throw new RequestCancelledException("Request was cancelled");
+        }
+        if (isExpired()) {
+            throw new DeadlineExceededException("Request deadline exceeded");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.hexagonal.weather.model;
+
+/**
+ * Exception thrown when a request runs out of its time budget.
+ */
+public class DeadlineExceededException extends WeatherException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
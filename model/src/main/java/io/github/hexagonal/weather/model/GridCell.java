@@ -0,0 +1,37 @@
+package io.github.hexagonal.weather.model;
+
+/**
+ * Value object identifying a square cell of a latitude/longitude grid.
+ * Locations that fall into the same cell share the same weather data.
+ *
+ * @param latitudeIndex  Row index (latitude divided by the cell size, rounded down)
+ * @param longitudeIndex Column index (longitude divided by the cell size, rounded down)
+ */
+public record GridCell(
+    int latitudeIndex,
+    int longitudeIndex
+) {
+    /**
+     * Returns the cell containing the given location.
+     *
+     * @param location The location to look up
+     * @param cellSize Cell edge length in degrees
+     * @return The cell containing the location
+     */
+    public static GridCell of(Location location, double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        return new GridCell(
+            (int) Math.floor(location.latitude() / cellSize),
+            (int) Math.floor(location.longitude() / cellSize)
+        );
+    }
+
+    /**
+     * Packs both indices into a single long, suitable for hashing.
+     */
+    public long toLong() {
+        return ((long) latitudeIndex << 32) | (longitudeIndex & 0xFFFFFFFFL);
+    }
+}
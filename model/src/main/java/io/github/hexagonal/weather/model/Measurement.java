@@ -0,0 +1,23 @@
+package io.github.hexagonal.weather.model;
+
+/**
+ * Optional weather variables that can be requested on top of temperature and condition.
+ */
+public enum Measurement {
+    RELATIVE_HUMIDITY("%"),
+    APPARENT_TEMPERATURE("°C"),
+    WIND_SPEED("km/h"),
+    WIND_DIRECTION("°"),
+    PRECIPITATION("mm"),
+    CLOUD_COVER("%");
+
+    private final String unit;
+
+    Measurement(String unit) {
+        this.unit = unit;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+}
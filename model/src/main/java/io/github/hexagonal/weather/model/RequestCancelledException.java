@@ -0,0 +1,11 @@
+package io.github.hexagonal.weather.model;
+
+/**
+ * Exception thrown when work is abandoned because the client cancelled the request.
+ */
+public class RequestCancelledException extends WeatherException {
+
+    public RequestCancelledException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,11 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Domain model representing current weather information.
@@ -12,17 +17,52 @@ import java.time.Instant;
  * @param temperature   Temperature in Celsius
  * @param condition     Weather condition
  * @param timestamp     When the weather data was measured
+ * @param measurements  Optional variables that were fetched, in the units of {@link Measurement}
  */
 public record Weather(
     @NotNull @Valid Location location,
     double temperature,
     @NotNull WeatherCondition condition,
-    @NotNull Instant timestamp
+    @NotNull Instant timestamp,
+    @NotNull Map<Measurement, Double> measurements
 ) {
+    public Weather {
+        EnumMap<Measurement, Double> copy = new EnumMap<>(Measurement.class);
+        if (measurements != null) {
+            copy.putAll(measurements);
+        }
+        measurements = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Creates weather without optional measurements.
+     */
+    public Weather(Location location, double temperature, WeatherCondition condition, Instant timestamp) {
+        this(location, temperature, condition, timestamp, Map.of());
+    }
+
     /**
      * Creates weather with current timestamp.
      */
     public Weather(Location location, double temperature, WeatherCondition condition) {
         this(location, temperature, condition, Instant.now());
     }
-}
\ No newline at end of file
+
+    public Optional<Double> measurement(Measurement measurement) {
+        return Optional.ofNullable(measurements.get(measurement));
+    }
+
+    /**
+     * Checks whether this weather holds all the given measurements, so it can answer a request for them.
+     */
+    public boolean covers(Set<Measurement> requested) {
+        return measurements.keySet().containsAll(requested);
+    }
+
+    /**
+     * Returns the same weather reported for another location, e.g. a cached neighbour in the same grid cell.
+     */
+    public Weather at(Location other) {
+        return location.equals(other) ? this : new Weather(other, temperature, condition, timestamp, measurements);
+    }
+}
@@ -12,4 +12,12 @@ public class WeatherException extends RuntimeException {
     public WeatherException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Creates an exception that may skip capturing its stack trace.
+     * Suppressed exceptions are disabled so that instances can be shared.
+     */
+    protected WeatherException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, false, writableStackTrace);
+    }
 }
\ No newline at end of file
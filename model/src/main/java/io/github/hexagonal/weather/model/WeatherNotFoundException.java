@@ -6,10 +6,38 @@ package io.github.hexagonal.weather.model;
 public class WeatherNotFoundException extends WeatherException {
 
     public WeatherNotFoundException(Location location) {
-        super("Weather data not found for location: " + location);
+        super(message(location));
     }
 
     public WeatherNotFoundException(String message, Throwable cause) {
         super(message, cause);
     }
-}
\ No newline at end of file
+
+    private WeatherNotFoundException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, writableStackTrace);
+    }
+
+    /**
+     * Creates an exception without a stack trace. Cheap to create, and immutable, so a single
+     * instance can be preallocated and thrown repeatedly for failures that are expected often.
+     *
+     * @param message The failure message
+     * @param cause   The underlying failure, or null
+     */
+    public static WeatherNotFoundException withoutStackTrace(String message, Throwable cause) {
+        return new WeatherNotFoundException(message, cause, false);
+    }
+
+    /**
+     * Creates an exception without a stack trace for a location whose weather could not be found.
+     *
+     * @param location The location
+     */
+    public static WeatherNotFoundException withoutStackTrace(Location location) {
+        return new WeatherNotFoundException(message(location), null, false);
+    }
+
+    private static String message(Location location) {
+        return "Weather data not found for location: " + location;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.hexagonal.weather.model;
+
+import java.util.Set;
+
+/**
+ * Value object describing a single weather lookup, passed along the use case and provider ports.
+ *
+ * @param location     The location to get weather for
+ * @param measurements Optional measurements the caller needs; the result may hold more
+ * @param deadline     Time budget and cancellation signal of the request
+ * @param client       The client the lookup is made for, which determines its share of upstream capacity
+ */
+public record WeatherQuery(Location location, Set<Measurement> measurements, Deadline deadline, ClientId client) {
+
+    public WeatherQuery {
+        if (location == null || deadline == null || client == null) {
+            throw new IllegalArgumentException("Location, deadline and client are required");
+        }
+        measurements = measurements == null ? Set.of() : Set.copyOf(measurements);
+    }
+
+    /**
+     * Creates an anonymous lookup without optional measurements or time limit.
+     */
+    public static WeatherQuery of(Location location) {
+        return new WeatherQuery(location, Set.of(), Deadline.none(), ClientId.ANONYMOUS);
+    }
+
+    /**
+     * Returns the same lookup for other optional measurements.
+     */
+    public WeatherQuery withMeasurements(Set<Measurement> measurements) {
+        return new WeatherQuery(location, measurements, deadline, client);
+    }
+}
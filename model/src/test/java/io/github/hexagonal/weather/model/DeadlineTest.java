@@ -0,0 +1,65 @@
+package io.github.hexagonal.weather.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Deadline.
+ */
+class DeadlineTest {
+
+    @Test
+    void shouldTrackRemainingTime() {
+        // When
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+
+        // Then
+        assertTrue(deadline.isBounded());
+        assertFalse(deadline.isExpired());
+        assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(9)) > 0);
+        assertDoesNotThrow(deadline::check);
+    }
+
+    @Test
+    void shouldFailCheckOnceExpired() {
+        // When
+        Deadline deadline = Deadline.after(Duration.ZERO);
+
+        // Then
+        assertTrue(deadline.isExpired());
+        assertEquals(Duration.ZERO, deadline.remaining());
+        assertThrows(DeadlineExceededException.class, deadline::check);
+    }
+
+    @Test
+    void shouldNotifyListenersOnCancel() {
+        // Given
+        Deadline deadline = Deadline.none();
+        AtomicInteger notified = new AtomicInteger();
+        deadline.onCancel(notified::incrementAndGet);
+
+        // When
+        deadline.cancel();
+        deadline.cancel();
+        deadline.onCancel(notified::incrementAndGet);
+
+        // Then
+        assertEquals(2, notified.get());
+        assertTrue(deadline.isCancelled());
+        assertThrows(RequestCancelledException.class, deadline::check);
+    }
+
+    @Test
+    void shouldNeverExpireWhenUnbounded() {
+        // When
+        Deadline deadline = Deadline.none();
+
+        // Then
+        assertFalse(deadline.isBounded());
+        assertFalse(deadline.isExpired());
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.hexagonal.weather.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GridCell value object.
+ */
+class GridCellTest {
+
+    @Test
+    void shouldPutNearbyLocationsInSameCell() {
+        // Given
+        Location brussels = new Location(50.8503, 4.3517, "Brussels");
+        Location nearby = new Location(50.8599, 4.3001);
+
+        // Then
+        assertEquals(GridCell.of(brussels, 0.1), GridCell.of(nearby, 0.1));
+    }
+
+    @Test
+    void shouldRoundNegativeCoordinatesDown() {
+        // When
+        GridCell cell = GridCell.of(new Location(-0.05, -0.1278), 0.1);
+
+        // Then
+        assertEquals(-1, cell.latitudeIndex());
+        assertEquals(-2, cell.longitudeIndex());
+    }
+
+    @Test
+    void shouldPackIndicesIntoDistinctLongs() {
+        // Then
+        assertNotEquals(new GridCell(1, -1).toLong(), new GridCell(-1, 1).toLong());
+        assertEquals(new GridCell(508, 43).toLong(), new GridCell(508, 43).toLong());
+    }
+
+    @Test
+    void shouldRejectNonPositiveCellSize() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> GridCell.of(new Location(50.8503, 4.3517), 0));
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.hexagonal.weather.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WeatherNotFoundException.
+ */
+class WeatherNotFoundExceptionTest {
+
+    @Test
+    void shouldCaptureStackTraceByDefault() {
+        // When
+        WeatherNotFoundException exception = new WeatherNotFoundException(new Location(50.8503, 4.3517));
+
+        // Then
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+    @Test
+    void shouldCreateStacklessExceptionThatCanBeShared() {
+        // Given
+        IllegalStateException cause = new IllegalStateException("upstream");
+
+        // When
+        WeatherNotFoundException exception = WeatherNotFoundException.withoutStackTrace("unavailable", cause);
+        exception.addSuppressed(new RuntimeException("ignored"));
+
+        // Then
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, exception.getSuppressed().length);
+        assertSame(cause, exception.getCause());
+        assertEquals("unavailable", exception.getMessage());
+    }
+
+    @Test
+    void shouldCreateStacklessExceptionForLocation() {
+        // Given
+        Location location = new Location(50.8503, 4.3517);
+
+        // When
+        WeatherNotFoundException exception = WeatherNotFoundException.withoutStackTrace(location);
+
+        // Then
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(new WeatherNotFoundException(location).getMessage(), exception.getMessage());
+    }
+}
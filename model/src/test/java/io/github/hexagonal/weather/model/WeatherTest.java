@@ -0,0 +1,65 @@
+package io.github.hexagonal.weather.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Weather.
+ */
+class WeatherTest {
+
+    private final Location brussels = new Location(50.8503, 4.3517, "Brussels");
+
+    @Test
+    void shouldCoverOnlyFetchedMeasurements() {
+        // Given
+        Weather weather = new Weather(brussels, 15.5, WeatherCondition.RAIN, Instant.now(), Map.of(
+            Measurement.RELATIVE_HUMIDITY, 81.0,
+            Measurement.WIND_SPEED, 12.4
+        ));
+
+        // Then
+        assertTrue(weather.covers(Set.of()));
+        assertTrue(weather.covers(Set.of(Measurement.WIND_SPEED)));
+        assertTrue(weather.covers(Set.of(Measurement.WIND_SPEED, Measurement.RELATIVE_HUMIDITY)));
+        assertFalse(weather.covers(Set.of(Measurement.WIND_SPEED, Measurement.CLOUD_COVER)));
+        assertEquals(81.0, weather.measurement(Measurement.RELATIVE_HUMIDITY).orElseThrow());
+        assertTrue(weather.measurement(Measurement.CLOUD_COVER).isEmpty());
+    }
+
+    @Test
+    void shouldCopyMeasurements() {
+        // Given
+        Map<Measurement, Double> measurements = new HashMap<>(Map.of(Measurement.PRECIPITATION, 0.4));
+        Weather weather = new Weather(brussels, 15.5, WeatherCondition.RAIN, Instant.now(), measurements);
+
+        // When
+        measurements.put(Measurement.CLOUD_COVER, 100.0);
+
+        // Then
+        assertEquals(Set.of(Measurement.PRECIPITATION), weather.measurements().keySet());
+        assertThrows(UnsupportedOperationException.class, () -> weather.measurements().clear());
+    }
+
+    @Test
+    void shouldKeepMeasurementsWhenMovedToAnotherLocation() {
+        // Given
+        Weather weather = new Weather(brussels, 15.5, WeatherCondition.RAIN, Instant.now(),
+            Map.of(Measurement.WIND_DIRECTION, 240.0));
+        Location nearby = new Location(50.86, 4.35);
+
+        // When
+        Weather moved = weather.at(nearby);
+
+        // Then
+        assertEquals(nearby, moved.location());
+        assertEquals(weather.measurements(), moved.measurements());
+        assertSame(weather, weather.at(brussels));
+    }
+}